@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.io;
+
+import org.openjdk.bench.util.InMemoryJavaCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up {@link ObjectStreamClass} descriptors and serializes instances of
+ * {@code classes} generated classes, each defined in {@code loaders}
+ * separate class loaders, as a plugin system would. Unlike
+ * {@link ObjectStreamClasses} the classes are not all known to the system
+ * class loader, and every operation picks a random one, so the descriptor
+ * caches see many keys from many loaders.
+ *
+ * {@code churn} defines all classes in a new loader, looks them up and
+ * serializes one instance of each, then drops the loader; the score is per
+ * loader. The caches must not keep discarded loaders alive, which
+ * {@link RetainedHeapProfiler} shows:
+ *
+ * <pre>
+ * -prof org.openjdk.bench.java.io.RetainedHeapProfiler
+ * </pre>
+ *
+ * {@link TMax} runs everything with as many threads as there are CPUs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Benchmark)
+public class ObjectStreamClassLoaders {
+
+    private static final String PREFIX = "ObjectStreamClassLoadersTarget";
+
+    /** Compiled once per JVM, compilation is slow and the same for all parameters */
+    private static final Map<String, byte[]> COMPILED = new HashMap<>();
+
+    @Param({"10", "100"})
+    private int classes;
+
+    @Param({"1", "16", "256"})
+    private int loaders;
+
+    private String[] names;
+    private Class<?>[] defined;
+    private Object[] instances;
+
+    static synchronized byte[] compile(String name, int i) {
+        return COMPILED.computeIfAbsent(name, n -> InMemoryJavaCompiler.compile(n,
+                "public class " + n + " implements java.io.Serializable {"
+                + "    int id = " + i + ";"
+                + "    long stamp = " + i * 31L + "L;"
+                + "    String name = \"" + n + "\";"
+                + "    double[] values = new double[" + (i % 8) + "];"
+                + "    transient Object cache;"
+                + "}"));
+    }
+
+    static class BenchLoader extends ClassLoader {
+        private final Map<String, byte[]> bytes;
+
+        BenchLoader(Map<String, byte[]> bytes) {
+            super(ObjectStreamClassLoaders.class.getClassLoader());
+            this.bytes = bytes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] b = bytes.get(name);
+            if (b == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, b, 0, b.length);
+        }
+    }
+
+    private Map<String, byte[]> bytes;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        names = new String[classes];
+        bytes = new HashMap<>();
+        for (int i = 0; i < classes; i++) {
+            names[i] = PREFIX + i;
+            bytes.put(names[i], compile(names[i], i));
+        }
+        defined = new Class<?>[classes * loaders];
+        instances = new Object[classes * loaders];
+        for (int l = 0; l < loaders; l++) {
+            BenchLoader loader = new BenchLoader(bytes);
+            for (int i = 0; i < classes; i++) {
+                Class<?> c = Class.forName(names[i], true, loader);
+                defined[l * classes + i] = c;
+                instances[l * classes + i] = c.getDeclaredConstructor().newInstance();
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Output {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    }
+
+    @Benchmark
+    public ObjectStreamClass lookup() {
+        return ObjectStreamClass.lookup(defined[ThreadLocalRandom.current().nextInt(defined.length)]);
+    }
+
+    @Benchmark
+    public int serialize(Output out) throws IOException {
+        out.bytes.reset();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out.bytes)) {
+            oos.writeObject(instances[ThreadLocalRandom.current().nextInt(instances.length)]);
+        }
+        return out.bytes.size();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int churn(Output out) throws Exception {
+        BenchLoader loader = new BenchLoader(bytes);
+        out.bytes.reset();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out.bytes)) {
+            for (String name : names) {
+                Class<?> c = Class.forName(name, true, loader);
+                ObjectStreamClass.lookup(c);
+                oos.writeObject(c.getDeclaredConstructor().newInstance());
+            }
+        }
+        return out.bytes.size();
+    }
+
+    @Threads(Threads.MAX)
+    public static class TMax extends ObjectStreamClassLoaders {
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.io;
+
+import org.openjdk.bench.util.profile.IterationProfiler;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+
+/**
+ * Forces a full collection after every iteration and reports what is still
+ * retained: the used heap and non-heap memory (metaspace, code cache), the number of loaded classes, and
+ * how many classes were unloaded during the iteration. With benchmarks that
+ * keep discarding class loaders, such as
+ * {@link ObjectStreamClassLoaders#churn}, these stay flat unless something
+ * keeps the loaders reachable.
+ *
+ * <pre>
+ * -prof org.openjdk.bench.java.io.RetainedHeapProfiler
+ * </pre>
+ *
+ * The forced collection is outside the measured time, but it makes the
+ * iterations longer and changes the heap the next iteration starts with.
+ */
+public class RetainedHeapProfiler extends IterationProfiler {
+
+    private long startUnloaded;
+
+    public RetainedHeapProfiler() {
+        super("Heap, metaspace and classes retained after each iteration");
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        startUnloaded = ManagementFactory.getClassLoadingMXBean().getUnloadedClassCount();
+    }
+
+    @Override
+    protected void report(BenchmarkParams benchmarkParams, IterationResult result, List<Result> results) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        memory.gc();
+        ClassLoadingMXBean classes = ManagementFactory.getClassLoadingMXBean();
+        add(results, "retained.heap", (double) memory.getHeapMemoryUsage().getUsed() / (1 << 20), "MB", AggregationPolicy.AVG);
+        add(results, "retained.nonheap", (double) memory.getNonHeapMemoryUsage().getUsed() / (1 << 20), "MB", AggregationPolicy.AVG);
+        add(results, "retained.classes", classes.getLoadedClassCount(), "classes", AggregationPolicy.AVG);
+        add(results, "unloaded.classes", classes.getUnloadedClassCount() - startUnloaded, "classes", AggregationPolicy.SUM);
+    }
+}
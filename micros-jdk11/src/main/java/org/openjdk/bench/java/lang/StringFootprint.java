@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.lang;
+
+import org.openjdk.bench.util.profile.MetricsProfiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills a cache with {@value #COPIES} equal but distinct copies of each of
+ * {@value #WORDS} words, as caches fed from parsed input end up with, and
+ * looks every cached string up in a map. The copies are shared through
+ * {@link String#intern()}, through a {@link WeakInterner}, or not at all.
+ * The {@link Dedup} variant runs with G1 string deduplication, which makes
+ * equal strings share their arrays in the background, and the
+ * {@link NoCompactStrings} variant stores every string as UTF-16.
+ * <p>
+ * Scores are per string. Deduplication runs in a GC thread, so its CPU
+ * cost is not in the score; compare the CPU time of the forks to see it.
+ * {@link MetricsProfiler} reports the heap retained by the cache per string
+ * as {@code retained.string}:
+ *
+ * <pre>
+ * -prof org.openjdk.bench.util.profile.MetricsProfiler
+ * </pre>
+ *
+ * The benchmark measures it at the end of every iteration, by comparing the
+ * used heap after full collections with and without the cache, but only
+ * when the profiler is enabled. With string deduplication, it first lets
+ * the cache survive a few young collections, then waits until the heap
+ * stops shrinking while deduplication runs in the background. On a machine
+ * with few idle CPUs that can happen before deduplication is done, which
+ * shows as a large error.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseG1GC"})
+@State(Scope.Thread)
+public class StringFootprint {
+
+    /** Bundled with the stream benchmarks, and in the same jar as this one */
+    private static final String DICTIONARY = "org/openjdk/bench/java/util/stream/tasks/cmudict-0.7b.txt";
+
+    public static final int WORDS = 100_000;
+    public static final int COPIES = 4;
+
+    public enum Source {
+        /** Words of the CMU pronouncing dictionary, all ASCII */
+        DICTIONARY,
+        /** Random words of Latin-1 letters */
+        LATIN1,
+        /** Random words of Greek and Cyrillic letters, which need UTF-16 */
+        UTF16,
+        /** Random words of ASCII letters, about one in five with a Cyrillic letter that makes it UTF-16 */
+        MIXED
+    }
+
+    public enum Strategy {
+        NONE,
+        INTERN,
+        WEAK_INTERNER
+    }
+
+    @Param({"DICTIONARY", "LATIN1", "UTF16", "MIXED"})
+    private Source source;
+
+    @Param({"NONE", "INTERN", "WEAK_INTERNER"})
+    private Strategy strategy;
+
+    private static final boolean DEDUP =
+            ManagementFactory.getRuntimeMXBean().getInputArguments().contains("-XX:+UseStringDeduplication");
+
+    private static volatile Object sink;
+
+    private char[][] words;
+    private Map<String, Integer> index;
+    private WeakInterner interner;
+    private String[] cache;
+
+    @Setup
+    public void setup() throws IOException {
+        words = words(source);
+        index = new HashMap<>();
+        for (int i = 0; i < words.length; i++) {
+            index.put(new String(words[i]), i);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void fill() {
+        interner = new WeakInterner();
+        load();
+    }
+
+    /**
+     * Measures the heap the cache retains, along with the interned copies.
+     * The weak interner is dropped too, so that its stale entries are not
+     * counted as retained by the cache.
+     */
+    @TearDown(Level.Iteration)
+    public void measure() throws InterruptedException {
+        if (MetricsProfiler.isEnabled()) {
+            age();
+            long retained = usedHeap();
+            cache = null;
+            interner = null;
+            MetricsProfiler.record("retained.string", (double) (retained - usedHeap()) / (WORDS * COPIES), "B/string");
+        }
+    }
+
+    /**
+     * Allocates until the cache has survived a few young collections, as a
+     * long-lived cache has. Deduplication only considers strings that have.
+     */
+    private static void age() {
+        long start = collections();
+        while (collections() < start + 4) {
+            sink = new byte[1 << 20];
+        }
+        sink = null;
+    }
+
+    private static long collections() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            n += gc.getCollectionCount();
+        }
+        return n;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long used = memory.getHeapMemoryUsage().getUsed();
+        // deduplication drops arrays in the background after collections,
+        // collect until nothing more has been freed for a while
+        for (int stable = 0, i = 0; DEDUP && stable < 5 && i < 50; i++) {
+            Thread.sleep(200);
+            System.gc();
+            long u = memory.getHeapMemoryUsage().getUsed();
+            stable = u < used ? 0 : stable + 1;
+            used = Math.min(used, u);
+        }
+        return used;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WORDS * COPIES)
+    public String[] load() {
+        String[] c = new String[WORDS * COPIES];
+        int n = 0;
+        for (int copy = 0; copy < COPIES; copy++) {
+            for (char[] w : words) {
+                c[n++] = share(new String(w));
+            }
+        }
+        cache = c;
+        return c;
+    }
+
+    private String share(String s) {
+        switch (strategy) {
+            case INTERN:
+                return s.intern();
+            case WEAK_INTERNER:
+                return interner.intern(s);
+            default:
+                return s;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WORDS * COPIES)
+    public long lookup() {
+        long sum = 0;
+        for (String s : cache) {
+            sum += index.get(s);
+        }
+        return sum;
+    }
+
+    private static char[][] words(Source source) throws IOException {
+        Set<String> words = new LinkedHashSet<>();
+        if (source == Source.DICTIONARY) {
+            InputStream in = StringFootprint.class.getClassLoader().getResourceAsStream(DICTIONARY);
+            if (in == null) {
+                throw new IllegalStateException(DICTIONARY + " not found, it comes with micros-jdk8");
+            }
+            try (BufferedReader r = new BufferedReader(new InputStreamReader(in, StandardCharsets.ISO_8859_1))) {
+                for (String line; words.size() < WORDS && (line = r.readLine()) != null; ) {
+                    // skip the copyright notice and the entries for punctuation
+                    if (line.charAt(0) >= 'A' && line.charAt(0) <= 'Z') {
+                        words.add(line.substring(0, line.indexOf(' ')));
+                    }
+                }
+            }
+        } else {
+            Random r = new Random(42);
+            while (words.size() < WORDS) {
+                char[] w = new char[4 + r.nextInt(13)];
+                for (int i = 0; i < w.length; i++) {
+                    w[i] = letter(source, r);
+                }
+                words.add(new String(w));
+            }
+        }
+        char[][] chars = new char[words.size()][];
+        int i = 0;
+        for (String w : words) {
+            chars[i++] = w.toCharArray();
+        }
+        return chars;
+    }
+
+    private static char letter(Source source, Random r) {
+        switch (source) {
+            case LATIN1:
+                return r.nextInt(4) == 0 ? (char) (0xE0 + r.nextInt(32)) : (char) ('a' + r.nextInt(26));
+            case UTF16:
+                return r.nextBoolean() ? (char) (0x3B1 + r.nextInt(25)) : (char) (0x430 + r.nextInt(32));
+            default:
+                return r.nextInt(50) == 0 ? (char) (0x430 + r.nextInt(32)) : (char) ('a' + r.nextInt(26));
+        }
+    }
+
+    @Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseG1GC", "-XX:-CompactStrings"})
+    public static class NoCompactStrings extends StringFootprint {
+    }
+
+    @Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseG1GC", "-XX:+UseStringDeduplication"})
+    public static class Dedup extends StringFootprint {
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.concurrent;
+
+import org.openjdk.bench.util.primitive.IntIntMap;
+import org.openjdk.bench.util.primitive.LongLongMap;
+import org.openjdk.bench.util.primitive.LongObjectMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the open-addressing primitive maps in micros-util with
+ * {@link HashMap} and {@link ConcurrentHashMap} holding boxed keys and values.
+ *
+ * Keys are {@code size} distinct scrambled ints outside the {@code Integer}
+ * cache, so the boxed maps pay for a key, a value and a node per entry.
+ * {@code get} and {@code put} hit existing keys in a random order, and
+ * {@code put} boxes a fresh value the way a real caller would.
+ *
+ * Run with {@code -prof gc} to see the GC pressure of each map. For
+ * {@code build}, which fills a presized map and so allocates no resize
+ * garbage, {@code gc.alloc.rate.norm} divided by {@code size} is the heap
+ * footprint in bytes per entry. The off-heap map's table does not show up
+ * there; it holds 16 bytes per slot of native memory instead.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class PrimitiveMaps {
+
+    private static final int LOOKUPS = 1 << 16;
+
+    public enum Impl {
+        HASH_MAP, CONCURRENT_HASH_MAP, INT_INT, LONG_OBJECT, OFF_HEAP_LONG_LONG
+    }
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param
+    private Impl impl;
+
+    private Target target;
+    private int[] order;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (i + 1) * 0x9E3779B9;
+        }
+        switch (impl) {
+            case HASH_MAP:
+                target = new BoxedTarget(keys, false);
+                break;
+            case CONCURRENT_HASH_MAP:
+                target = new BoxedTarget(keys, true);
+                break;
+            case INT_INT:
+                target = new IntIntTarget(keys);
+                break;
+            case LONG_OBJECT:
+                target = new LongObjectTarget(keys);
+                break;
+            case OFF_HEAP_LONG_LONG:
+                target = new LongLongTarget(keys);
+                break;
+            default:
+                throw new AssertionError(impl);
+        }
+        target.populate();
+
+        Random random = new Random(42);
+        order = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            order[i] = random.nextInt(size);
+        }
+    }
+
+    private int next() {
+        return order[cursor++ & (LOOKUPS - 1)];
+    }
+
+    @Benchmark
+    public int get() {
+        return target.get(next());
+    }
+
+    @Benchmark
+    public void put() {
+        int index = next();
+        target.put(index, index ^ cursor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public long iterate() {
+        return target.sum();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public Object build() {
+        return target.build();
+    }
+
+    /**
+     * Uniform view of one map implementation. Entries are addressed by their
+     * index in the key array so each target can keep keys in its own form.
+     */
+    private abstract static class Target {
+        final int[] keys;
+
+        Target(int[] keys) {
+            this.keys = keys;
+        }
+
+        /** Fills a new presized map with every key and returns it. */
+        abstract Object build();
+
+        /** Makes a freshly built map the one used by the other operations. */
+        abstract void populate();
+
+        abstract int get(int index);
+
+        abstract void put(int index, int value);
+
+        abstract long sum();
+    }
+
+    private static final class BoxedTarget extends Target {
+        private final Integer[] boxedKeys;
+        private final boolean concurrent;
+        private Map<Integer, Integer> map;
+
+        BoxedTarget(int[] keys, boolean concurrent) {
+            super(keys);
+            this.concurrent = concurrent;
+            boxedKeys = new Integer[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                boxedKeys[i] = keys[i];
+            }
+        }
+
+        @Override
+        Object build() {
+            int[] keys = this.keys;
+            int n = keys.length;
+            // Size both maps so that n entries fit without resizing.
+            Map<Integer, Integer> m = concurrent
+                    ? new ConcurrentHashMap<>(n)
+                    : new HashMap<>((int) (n / 0.75f) + 1);
+            // Box the keys here rather than reuse boxedKeys, so that the
+            // allocation covers everything the map retains.
+            for (int i = 0; i < n; i++) {
+                m.put(Integer.valueOf(keys[i]), Integer.valueOf(keys[i] ^ i));
+            }
+            return m;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void populate() {
+            map = (Map<Integer, Integer>) build();
+        }
+
+        @Override
+        int get(int index) {
+            return map.get(boxedKeys[index]);
+        }
+
+        @Override
+        void put(int index, int value) {
+            map.put(boxedKeys[index], value);
+        }
+
+        @Override
+        long sum() {
+            long sum = 0;
+            for (Integer v : map.values()) {
+                sum += v;
+            }
+            return sum;
+        }
+    }
+
+    private static final class IntIntTarget extends Target {
+        private IntIntMap map;
+
+        IntIntTarget(int[] keys) {
+            super(keys);
+        }
+
+        @Override
+        Object build() {
+            int[] keys = this.keys;
+            IntIntMap m = new IntIntMap(keys.length, 0.75f, 0);
+            for (int i = 0; i < keys.length; i++) {
+                m.put(keys[i], keys[i] ^ i);
+            }
+            return m;
+        }
+
+        @Override
+        void populate() {
+            map = (IntIntMap) build();
+        }
+
+        @Override
+        int get(int index) {
+            return map.get(keys[index]);
+        }
+
+        @Override
+        void put(int index, int value) {
+            map.put(keys[index], value);
+        }
+
+        @Override
+        long sum() {
+            long[] sum = new long[1];
+            map.forEach((k, v) -> sum[0] += v);
+            return sum[0];
+        }
+    }
+
+    private static final class LongObjectTarget extends Target {
+        private LongObjectMap<Integer> map;
+
+        LongObjectTarget(int[] keys) {
+            super(keys);
+        }
+
+        @Override
+        Object build() {
+            int[] keys = this.keys;
+            LongObjectMap<Integer> m = new LongObjectMap<>(keys.length, 0.75f);
+            for (int i = 0; i < keys.length; i++) {
+                m.put(keys[i], Integer.valueOf(keys[i] ^ i));
+            }
+            return m;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void populate() {
+            map = (LongObjectMap<Integer>) build();
+        }
+
+        @Override
+        int get(int index) {
+            return map.get(keys[index]);
+        }
+
+        @Override
+        void put(int index, int value) {
+            map.put(keys[index], value);
+        }
+
+        @Override
+        long sum() {
+            long[] sum = new long[1];
+            map.forEach((k, v) -> sum[0] += v);
+            return sum[0];
+        }
+    }
+
+    private static final class LongLongTarget extends Target {
+        private LongLongMap map;
+
+        LongLongTarget(int[] keys) {
+            super(keys);
+        }
+
+        @Override
+        Object build() {
+            int[] keys = this.keys;
+            LongLongMap m = new LongLongMap(keys.length, 0.75f, 0L);
+            for (int i = 0; i < keys.length; i++) {
+                m.put(keys[i], keys[i] ^ i);
+            }
+            return m;
+        }
+
+        @Override
+        void populate() {
+            map = (LongLongMap) build();
+        }
+
+        @Override
+        int get(int index) {
+            return (int) map.get(keys[index]);
+        }
+
+        @Override
+        void put(int index, int value) {
+            map.put(keys[index], value);
+        }
+
+        @Override
+        long sum() {
+            long[] sum = new long[1];
+            map.forEach((k, v) -> sum[0] += v);
+            return sum[0];
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.javax.crypto.full;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.AlgorithmParameterSpec;
+
+/**
+ * Common setup for the AES-GCM and ChaCha20-Poly1305 benchmarks: a key, a
+ * cipher and a 12 byte nonce that is incremented for every encryption, since
+ * both algorithms refuse to encrypt twice with the same key and nonce.
+ */
+public abstract class AEADBase extends CryptoBase {
+
+    public static final int NONCE_LENGTH = 12;
+    public static final int TAG_LENGTH = 16;
+
+    @Param({"AES/GCM/NoPadding", "ChaCha20-Poly1305"})
+    private String algorithm;
+
+    @Param({"256"})
+    private int keyLength;
+
+    SecretKeySpec ks;
+    Cipher cipher;
+    /** 13 bytes, the size of TLS 1.2 additional data. */
+    byte[] aad;
+    private final byte[] nonce = new byte[NONCE_LENGTH];
+
+    @Setup
+    public void setupAEAD() throws NoSuchAlgorithmException, NoSuchPaddingException {
+        setupProvider();
+        String keyAlgorithm = algorithm.startsWith("AES/") ? "AES" : "ChaCha20";
+        ks = new SecretKeySpec(fillSecureRandom(new byte[keyLength / 8]), keyAlgorithm);
+        cipher = makeCipher(prov, algorithm);
+        aad = fillRandom(new byte[13]);
+        fillSecureRandom(nonce);
+    }
+
+    /**
+     * @return parameters with a nonce not used before by this instance
+     */
+    AlgorithmParameterSpec nextSpec() {
+        for (int i = NONCE_LENGTH - 1; i >= 0 && ++nonce[i] == 0; i--) {
+            // carry into the next byte
+        }
+        return spec(nonce);
+    }
+
+    AlgorithmParameterSpec spec(byte[] nonce) {
+        return cipher.getAlgorithm().startsWith("AES/")
+                ? new GCMParameterSpec(TAG_LENGTH * 8, nonce)
+                : new IvParameterSpec(nonce);
+    }
+}
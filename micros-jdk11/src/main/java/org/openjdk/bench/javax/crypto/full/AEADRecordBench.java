@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.javax.crypto.full;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.Cipher;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.spec.AlgorithmParameterSpec;
+
+/**
+ * Seals and opens one TLS-like record per operation: init with a new nonce,
+ * additional data, then a single {@code doFinal}. Unlike {@link CipherBench}
+ * the output goes into preallocated storage, either arrays, direct
+ * ByteBuffers, or for {@code encryptInPlace} the input array itself, so the
+ * per-record overhead and the buffer paths of the intrinsics can be compared.
+ *
+ * The nested classes run with different thread counts, each thread with its
+ * own cipher, e.g. {@code AEADRecordBench.T4.encryptDirect}.
+ */
+public abstract class AEADRecordBench extends AEADBase {
+
+    @Param({"64", "512", "1024", "4096", "16384"})
+    private int recordSize;
+
+    private byte[] plain;
+    private byte[] out;
+    private byte[] inPlace;
+    private ByteBuffer plainDirect;
+    private ByteBuffer outDirect;
+
+    /*
+     * Two sealed copies under different nonces, used alternately, since
+     * ChaCha20-Poly1305 also refuses to decrypt twice in a row with the same
+     * key and nonce.
+     */
+    private final byte[][] sealed = new byte[2][];
+    private final ByteBuffer[] sealedDirect = new ByteBuffer[2];
+    private final AlgorithmParameterSpec[] sealedSpec = new AlgorithmParameterSpec[2];
+    private int turn;
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        plain = fillRandom(new byte[recordSize]);
+        out = new byte[recordSize + TAG_LENGTH];
+        inPlace = new byte[recordSize + TAG_LENGTH];
+        System.arraycopy(plain, 0, inPlace, 0, recordSize);
+
+        for (int i = 0; i < 2; i++) {
+            sealedSpec[i] = nextSpec();
+            cipher.init(Cipher.ENCRYPT_MODE, ks, sealedSpec[i]);
+            cipher.updateAAD(aad);
+            sealed[i] = cipher.doFinal(plain);
+            sealedDirect[i] = ByteBuffer.allocateDirect(sealed[i].length).put(sealed[i]).flip();
+        }
+        // Start with the copy that was not sealed last.
+        turn = 1;
+
+        plainDirect = ByteBuffer.allocateDirect(recordSize).put(plain).flip();
+        outDirect = ByteBuffer.allocateDirect(recordSize + TAG_LENGTH);
+    }
+
+    @Benchmark
+    public int encryptArray() throws GeneralSecurityException {
+        cipher.init(Cipher.ENCRYPT_MODE, ks, nextSpec());
+        cipher.updateAAD(aad);
+        return cipher.doFinal(plain, 0, recordSize, out, 0);
+    }
+
+    @Benchmark
+    public int encryptDirect() throws GeneralSecurityException {
+        cipher.init(Cipher.ENCRYPT_MODE, ks, nextSpec());
+        cipher.updateAAD(aad);
+        return cipher.doFinal(plainDirect.rewind(), outDirect.clear());
+    }
+
+    /**
+     * Encrypts the record over itself; each operation encrypts the previous
+     * ciphertext, which costs the same.
+     */
+    @Benchmark
+    public int encryptInPlace() throws GeneralSecurityException {
+        cipher.init(Cipher.ENCRYPT_MODE, ks, nextSpec());
+        cipher.updateAAD(aad);
+        return cipher.doFinal(inPlace, 0, recordSize, inPlace, 0);
+    }
+
+    @Benchmark
+    public int decryptArray() throws GeneralSecurityException {
+        int t = turn ^= 1;
+        cipher.init(Cipher.DECRYPT_MODE, ks, sealedSpec[t]);
+        cipher.updateAAD(aad);
+        return cipher.doFinal(sealed[t], 0, sealed[t].length, out, 0);
+    }
+
+    @Benchmark
+    public int decryptDirect() throws GeneralSecurityException {
+        int t = turn ^= 1;
+        cipher.init(Cipher.DECRYPT_MODE, ks, sealedSpec[t]);
+        cipher.updateAAD(aad);
+        return cipher.doFinal(sealedDirect[t].rewind(), outDirect.clear());
+    }
+
+    @Threads(1)
+    public static class T1 extends AEADRecordBench {
+    }
+
+    @Threads(2)
+    public static class T2 extends AEADRecordBench {
+    }
+
+    @Threads(4)
+    public static class T4 extends AEADRecordBench {
+    }
+
+    @Threads(8)
+    public static class T8 extends AEADRecordBench {
+    }
+
+    @Threads(Threads.MAX)
+    public static class TMax extends AEADRecordBench {
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.javax.crypto.full;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.Cipher;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.spec.AlgorithmParameterSpec;
+
+/**
+ * Encrypts or decrypts a {@code messageSize} message as a stream of
+ * {@code Cipher.update} calls of {@code chunkSize} bytes, followed by
+ * {@code doFinal}, from arrays or direct ByteBuffers. Each operation
+ * processes the whole message.
+ *
+ * The nested classes run with different thread counts, each thread with its
+ * own cipher, e.g. {@code AEADStreamBench.T4.encryptDirect}.
+ */
+public abstract class AEADStreamBench extends AEADBase {
+
+    @Param({"1048576"})
+    private int messageSize;
+
+    @Param({"1024", "16384", "262144", "1048576"})
+    private int chunkSize;
+
+    private byte[] plain;
+    private byte[] out;
+    private ByteBuffer plainDirect;
+    private ByteBuffer outDirect;
+
+    /* Used alternately, see AEADRecordBench. */
+    private final byte[][] sealed = new byte[2][];
+    private final AlgorithmParameterSpec[] sealedSpec = new AlgorithmParameterSpec[2];
+    private int turn;
+
+    @Setup
+    public void setup() throws GeneralSecurityException {
+        if (chunkSize > messageSize) {
+            throw new IllegalArgumentException("chunkSize larger than messageSize");
+        }
+        plain = fillRandom(new byte[messageSize]);
+        out = new byte[messageSize + TAG_LENGTH];
+
+        for (int i = 0; i < 2; i++) {
+            sealedSpec[i] = nextSpec();
+            cipher.init(Cipher.ENCRYPT_MODE, ks, sealedSpec[i]);
+            cipher.updateAAD(aad);
+            sealed[i] = cipher.doFinal(plain);
+        }
+        // Start with the copy that was not sealed last.
+        turn = 1;
+
+        plainDirect = ByteBuffer.allocateDirect(messageSize).put(plain).flip();
+        outDirect = ByteBuffer.allocateDirect(messageSize + TAG_LENGTH);
+    }
+
+    private int stream(byte[] in) throws GeneralSecurityException {
+        int outPos = 0;
+        int pos = 0;
+        for (int end = in.length - chunkSize; pos <= end; pos += chunkSize) {
+            outPos += cipher.update(in, pos, chunkSize, out, outPos);
+        }
+        return outPos + cipher.doFinal(in, pos, in.length - pos, out, outPos);
+    }
+
+    @Benchmark
+    public int encryptArray() throws GeneralSecurityException {
+        cipher.init(Cipher.ENCRYPT_MODE, ks, nextSpec());
+        cipher.updateAAD(aad);
+        return stream(plain);
+    }
+
+    @Benchmark
+    public int encryptDirect() throws GeneralSecurityException {
+        cipher.init(Cipher.ENCRYPT_MODE, ks, nextSpec());
+        cipher.updateAAD(aad);
+        ByteBuffer in = plainDirect.clear();
+        ByteBuffer out = outDirect.clear();
+        for (int pos = chunkSize; pos <= messageSize; pos += chunkSize) {
+            cipher.update(in.limit(pos), out);
+        }
+        cipher.doFinal(in.limit(messageSize), out);
+        return out.position();
+    }
+
+    /**
+     * Note that the SunJCE AES-GCM implementation may hold back decrypted
+     * data until {@code doFinal} has verified the tag.
+     */
+    @Benchmark
+    public int decryptArray() throws GeneralSecurityException {
+        int t = turn ^= 1;
+        cipher.init(Cipher.DECRYPT_MODE, ks, sealedSpec[t]);
+        cipher.updateAAD(aad);
+        return stream(sealed[t]);
+    }
+
+    @Threads(1)
+    public static class T1 extends AEADStreamBench {
+    }
+
+    @Threads(2)
+    public static class T2 extends AEADStreamBench {
+    }
+
+    @Threads(4)
+    public static class T4 extends AEADStreamBench {
+    }
+
+    @Threads(8)
+    public static class T8 extends AEADStreamBench {
+    }
+
+    @Threads(Threads.MAX)
+    public static class TMax extends AEADStreamBench {
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.vm.gc;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.openjdk.bench.util.profile.IterationProfiler;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reports GC pause percentiles and allocation stalls for each iteration,
+ * taken from a JFR recording in the benchmark VM. Every collector emits
+ * {@code jdk.GCPhasePause} for its stop-the-world pauses, so the numbers are
+ * comparable between collectors. Allocation stalls, where a thread waits for
+ * a concurrent cycle to free memory, are only recorded by ZGC on JDK 17 and
+ * later; other collectors block allocating threads inside a pause instead.
+ *
+ * <pre>
+ * -prof org.openjdk.bench.vm.gc.GcPauseProfiler
+ * </pre>
+ */
+public class GcPauseProfiler extends IterationProfiler {
+
+    private Recording recording;
+
+    public GcPauseProfiler() {
+        super("GC pause percentiles and allocation stalls, via JFR");
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        recording = new Recording();
+        recording.enable("jdk.GCPhasePause").withoutThreshold();
+        recording.enable("jdk.ZAllocationStall").withoutThreshold();
+        recording.start();
+    }
+
+    @Override
+    protected void report(BenchmarkParams benchmarkParams, IterationResult result, List<Result> results) {
+        List<RecordedEvent> events;
+        try (Recording r = recording) {
+            r.stop();
+            Path file = Files.createTempFile("gc-pauses", ".jfr");
+            try {
+                r.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            recording = null;
+        }
+
+        long[] pauses = new long[events.size()];
+        int count = 0;
+        long stallNanos = 0;
+        int stalls = 0;
+        for (RecordedEvent e : events) {
+            String name = e.getEventType().getName();
+            if (name.equals("jdk.GCPhasePause")) {
+                pauses[count++] = e.getDuration().toNanos();
+            } else if (name.equals("jdk.ZAllocationStall")) {
+                stallNanos += e.getDuration().toNanos();
+                stalls++;
+            }
+        }
+        pauses = Arrays.copyOf(pauses, count);
+        Arrays.sort(pauses);
+
+        add(results, "gc.pause.count", count, "#", AggregationPolicy.SUM);
+        add(results, "gc.pause.total", sum(pauses) / 1e6, "ms", AggregationPolicy.SUM);
+        if (count > 0) {
+            add(results, "gc.pause.p0.50", percentile(pauses, 0.50) / 1e6, "ms", AggregationPolicy.AVG);
+            add(results, "gc.pause.p0.99", percentile(pauses, 0.99) / 1e6, "ms", AggregationPolicy.AVG);
+            add(results, "gc.pause.max", pauses[count - 1] / 1e6, "ms", AggregationPolicy.MAX);
+        }
+        add(results, "gc.alloc.stall.count", stalls, "#", AggregationPolicy.SUM);
+        add(results, "gc.alloc.stall.total", stallNanos / 1e6, "ms", AggregationPolicy.SUM);
+    }
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (long v : values) {
+            sum += v;
+        }
+        return sum;
+    }
+
+    /** Nearest-rank percentile of a sorted, non-empty array. */
+    private static long percentile(long[] sorted, double p) {
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.vm.gc;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation churn against a large long-lived object graph.
+ *
+ * Setup builds {@code liveMb} of live data shaped as a binary tree, a linked
+ * list or a HashMap; see {@link Shape}. Each {@code churn} operation then
+ * allocates a short chain of {@value #CHUNK_NODES} nodes that dies young,
+ * and in {@code survivorPercent} of operations also links a new node into
+ * the live graph in place of an old one. Those survivors get promoted and
+ * leave garbage behind in the old generation, which is what {@code vm.gc.Alloc}
+ * never exercises.
+ *
+ * {@code allocRateMb} paces each thread to a fixed allocation rate in MB/s
+ * of churn, 0 meaning as fast as possible. A paced thread that falls behind,
+ * e.g. after a pause, catches up without waiting, the way a backlog of
+ * requests would.
+ *
+ * The nested classes fork with a specific collector, e.g.
+ * {@code GcPressure.G1.churn}. Run them with
+ * {@code -prof org.openjdk.bench.vm.gc.GcPauseProfiler} for pause
+ * percentiles and allocation stalls, and {@code -prof gc} for allocation
+ * rates. The collector is selected through {@code @Fork(jvmArgsAppend)}, which
+ * {@code -jvmArgsAppend} on the command line replaces; add options with
+ * {@code -jvmArgs} instead. Shenandoah is not included in all JDK builds; its
+ * forks fail where it is missing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public abstract class GcPressure {
+
+    static final int CHUNK_NODES = 16;
+
+    /** Approximate heap bytes of one {@link Node}, with compressed oops. */
+    static final int NODE_BYTES = 32;
+
+    public enum Shape {
+        /** Complete binary tree; survivors replace random leaves. */
+        TREE,
+        /** Singly linked list, which the collector can only mark serially. */
+        LIST,
+        /** HashMap from boxed longs to nodes; survivors replace values. */
+        MAP
+    }
+
+    @Param
+    private Shape shape;
+
+    @Param({"64", "512"})
+    private int liveMb;
+
+    @Param({"0", "10"})
+    private int survivorPercent;
+
+    private LiveSet live;
+
+    static final class Node {
+        Node left;
+        Node right;
+        long payload;
+
+        Node(Node left, Node right, long payload) {
+            this.left = left;
+            this.right = right;
+            this.payload = payload;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        if (survivorPercent < 0 || survivorPercent > 100) {
+            throw new IllegalArgumentException("survivorPercent must be in [0, 100]: " + survivorPercent);
+        }
+        long bytes = (long) liveMb << 20;
+        switch (shape) {
+            case TREE:
+                live = new LiveTree(bytes);
+                break;
+            case LIST:
+                live = new LiveList(bytes);
+                break;
+            case MAP:
+                live = new LiveMap(bytes);
+                break;
+            default:
+                throw new AssertionError(shape);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Churner {
+        @Param({"0", "256"})
+        private int allocRateMb;
+
+        private final SplittableRandom random = new SplittableRandom(ThreadLocalRandom.current().nextLong());
+        private long intervalNanos;
+        private long deadline;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            long bytesPerSecond = (long) allocRateMb << 20;
+            intervalNanos = bytesPerSecond == 0 ? 0 : Math.max(1, CHUNK_NODES * NODE_BYTES * 1_000_000_000L / bytesPerSecond);
+            deadline = System.nanoTime();
+        }
+
+        void pace() {
+            if (intervalNanos != 0) {
+                deadline += intervalNanos;
+                while (System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Node churn(Churner c) {
+        c.pace();
+        Node head = null;
+        for (int i = 0; i < CHUNK_NODES; i++) {
+            head = new Node(head, null, i);
+        }
+        if (c.random.nextInt(100) < survivorPercent) {
+            long r = c.random.nextLong();
+            live.replace(r, new Node(null, null, r));
+        }
+        return head;
+    }
+
+    /**
+     * The long-lived graph. {@link #replace} keeps its size constant and may
+     * race with other threads, which only changes which node survives.
+     */
+    private abstract static class LiveSet {
+        abstract void replace(long random, Node fresh);
+    }
+
+    private static final class LiveTree extends LiveSet {
+        private final Node root;
+        private final int depth;
+
+        LiveTree(long bytes) {
+            int depth = 1;
+            while ((2L << depth) * NODE_BYTES <= bytes) {
+                depth++;
+            }
+            this.depth = depth;
+            root = build(depth);
+        }
+
+        private static Node build(int depth) {
+            return depth == 0 ? null : new Node(build(depth - 1), build(depth - 1), depth);
+        }
+
+        @Override
+        void replace(long random, Node fresh) {
+            Node n = root;
+            for (int level = 2; level < depth; level++) {
+                n = (random & 1) == 0 ? n.left : n.right;
+                random >>>= 1;
+            }
+            if ((random & 1) == 0) {
+                n.left = fresh;
+            } else {
+                n.right = fresh;
+            }
+        }
+    }
+
+    private static final class LiveList extends LiveSet {
+        private static final int ANCHOR_STRIDE = 256;
+
+        /** Every {@value #ANCHOR_STRIDE}th node, for random access. */
+        private final Node[] anchors;
+
+        LiveList(long bytes) {
+            long count = Math.max(ANCHOR_STRIDE * 2L, bytes / NODE_BYTES);
+            anchors = new Node[(int) (count / ANCHOR_STRIDE)];
+            Node head = null;
+            for (long i = anchors.length * (long) ANCHOR_STRIDE - 1; i >= 0; i--) {
+                head = new Node(head, null, i);
+                if (i % ANCHOR_STRIDE == 0) {
+                    anchors[(int) (i / ANCHOR_STRIDE)] = head;
+                }
+            }
+        }
+
+        @Override
+        void replace(long random, Node fresh) {
+            Node anchor = anchors[(int) ((random >>> 1) % anchors.length)];
+            Node victim = anchor.left;
+            fresh.left = victim.left;
+            anchor.left = fresh;
+        }
+    }
+
+    private static final class LiveMap extends LiveSet {
+        /** HashMap node, boxed key, value node and table slot. */
+        private static final int ENTRY_BYTES = 88;
+
+        private final HashMap<Long, Node> map;
+        private final Long[] keys;
+
+        LiveMap(long bytes) {
+            int count = (int) Math.max(1, bytes / ENTRY_BYTES);
+            map = new HashMap<>((int) (count / 0.75f) + 1);
+            keys = new Long[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = i * 0x9E3779B97F4A7C15L;
+                map.put(keys[i], new Node(null, null, i));
+            }
+        }
+
+        @Override
+        void replace(long random, Node fresh) {
+            // Only existing keys are written, so the map never resizes.
+            map.put(keys[(int) ((random >>> 1) % keys.length)], fresh);
+        }
+    }
+
+    @Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseSerialGC"})
+    public static class Serial extends GcPressure {
+    }
+
+    @Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseParallelGC"})
+    public static class Parallel extends GcPressure {
+    }
+
+    @Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UseG1GC"})
+    public static class G1 extends GcPressure {
+    }
+
+    @Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UnlockExperimentalVMOptions", "-XX:+UseZGC"})
+    public static class Z extends GcPressure {
+    }
+
+    @Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+UnlockExperimentalVMOptions", "-XX:+UseShenandoahGC"})
+    public static class Shenandoah extends GcPressure {
+    }
+}
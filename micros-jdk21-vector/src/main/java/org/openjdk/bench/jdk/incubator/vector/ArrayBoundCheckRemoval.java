@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.jdk.incubator.vector;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Stores the index into every element, the loop of
+ * {@code vm.compiler.ArrayBoundCheckRemoval.testForLoopAccess}. The vector
+ * versions store the lane indexes plus the loop index.
+ */
+public class ArrayBoundCheckRemoval extends VectorKernel {
+
+    private int[] a;
+
+    @Setup
+    public void setup() {
+        a = new int[size];
+    }
+
+    @Benchmark
+    public int[] scalar() {
+        int[] a = this.a;
+        for (int i = 0; i < a.length; i++) {
+            a[i] = i;
+        }
+        return a;
+    }
+
+    @Benchmark
+    public int[] vector128() {
+        return iota(IntVector.SPECIES_128);
+    }
+
+    @Benchmark
+    public int[] vector256() {
+        return iota(IntVector.SPECIES_256);
+    }
+
+    @Benchmark
+    public int[] vector512() {
+        return iota(IntVector.SPECIES_512);
+    }
+
+    private int[] iota(VectorSpecies<Integer> s) {
+        int[] a = this.a;
+        IntVector lanes = IntVector.zero(s).addIndex(1);
+        int i = 0;
+        for (; i < s.loopBound(a.length); i += s.length()) {
+            lanes.add(i).intoArray(a, i);
+        }
+        for (; i < a.length; i++) {
+            a[i] = i;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.jdk.incubator.vector;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Random;
+
+/**
+ * Index of the first occurrence of a byte, which is placed in the last
+ * element so every version scans the whole array. The scalar loop has an
+ * early exit and is not auto-vectorized.
+ */
+public class ByteSearch extends VectorKernel {
+
+    private static final byte TARGET = 0x7F;
+
+    private byte[] data;
+
+    @Setup
+    public void setup() {
+        Random r = new Random(4711);
+        data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) r.nextInt(TARGET);
+        }
+        data[size - 1] = TARGET;
+    }
+
+    @Benchmark
+    public int scalar() {
+        for (int i = 0; i < size; i++) {
+            if (data[i] == TARGET) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int vector128() {
+        return search(ByteVector.SPECIES_128);
+    }
+
+    @Benchmark
+    public int vector256() {
+        return search(ByteVector.SPECIES_256);
+    }
+
+    @Benchmark
+    public int vector512() {
+        return search(ByteVector.SPECIES_512);
+    }
+
+    private int search(VectorSpecies<Byte> s) {
+        int i = 0;
+        for (; i < s.loopBound(size); i += s.length()) {
+            int lane = ByteVector.fromArray(s, data, i).eq(TARGET).firstTrue();
+            if (lane < s.length()) {
+                return i + lane;
+            }
+        }
+        for (; i < size; i++) {
+            if (data[i] == TARGET) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
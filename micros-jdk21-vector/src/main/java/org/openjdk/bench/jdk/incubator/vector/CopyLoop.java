@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.jdk.incubator.vector;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Narrowing copy of chars to bytes, the kernel of
+ * {@code vm.compiler.CopyLoop}. The vector versions convert shorts to bytes
+ * into a species of half the size.
+ */
+public class CopyLoop extends VectorKernel {
+
+    private char[] src;
+    private byte[] dst;
+
+    @Setup
+    public void setup() {
+        src = new char[size];
+        dst = new byte[size];
+        for (int i = 0; i < size; i++) {
+            src[i] = (char) ('a' + i % 26);
+        }
+    }
+
+    @Benchmark
+    public byte[] scalar() {
+        for (int i = 0; i < size; i++) {
+            dst[i] = (byte) src[i];
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public byte[] vector128() {
+        return copy(ShortVector.SPECIES_128, ByteVector.SPECIES_64);
+    }
+
+    @Benchmark
+    public byte[] vector256() {
+        return copy(ShortVector.SPECIES_256, ByteVector.SPECIES_128);
+    }
+
+    @Benchmark
+    public byte[] vector512() {
+        return copy(ShortVector.SPECIES_512, ByteVector.SPECIES_256);
+    }
+
+    private byte[] copy(VectorSpecies<Short> s, VectorSpecies<Byte> b) {
+        int i = 0;
+        for (; i < s.loopBound(size); i += s.length()) {
+            ((ByteVector) ShortVector.fromCharArray(s, src, i).castShape(b, 0)).intoArray(dst, i);
+        }
+        for (; i < size; i++) {
+            dst[i] = (byte) src[i];
+        }
+        return dst;
+    }
+}
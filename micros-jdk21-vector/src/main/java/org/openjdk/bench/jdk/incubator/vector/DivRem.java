@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.jdk.incubator.vector;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Random;
+
+/**
+ * Quotient and remainder of ints by variable divisors, as in
+ * {@code vm.compiler.DivRem}. x86 has no vector integer division, so the
+ * vector versions show what the fallback costs.
+ */
+public class DivRem extends VectorKernel {
+
+    private int[] dividends;
+    private int[] divisors;
+    private int[] quotients;
+    private int[] remainders;
+
+    @Setup
+    public void setup() {
+        Random r = new Random(4711);
+        dividends = new int[size];
+        divisors = new int[size];
+        quotients = new int[size];
+        remainders = new int[size];
+        for (int i = 0; i < size; i++) {
+            dividends[i] = r.nextInt();
+            int d = r.nextInt(1 << 16);
+            divisors[i] = d == 0 ? 5353 : d;
+        }
+    }
+
+    @Benchmark
+    public int[] scalar() {
+        for (int i = 0; i < size; i++) {
+            quotients[i] = dividends[i] / divisors[i];
+            remainders[i] = dividends[i] % divisors[i];
+        }
+        return remainders;
+    }
+
+    @Benchmark
+    public int[] vector128() {
+        return divRem(IntVector.SPECIES_128);
+    }
+
+    @Benchmark
+    public int[] vector256() {
+        return divRem(IntVector.SPECIES_256);
+    }
+
+    @Benchmark
+    public int[] vector512() {
+        return divRem(IntVector.SPECIES_512);
+    }
+
+    private int[] divRem(VectorSpecies<Integer> s) {
+        int i = 0;
+        for (; i < s.loopBound(size); i += s.length()) {
+            IntVector a = IntVector.fromArray(s, dividends, i);
+            IntVector b = IntVector.fromArray(s, divisors, i);
+            IntVector q = a.div(b);
+            q.intoArray(quotients, i);
+            a.sub(q.mul(b)).intoArray(remainders, i);
+        }
+        for (; i < size; i++) {
+            quotients[i] = dividends[i] / divisors[i];
+            remainders[i] = dividends[i] % divisors[i];
+        }
+        return remainders;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.jdk.incubator.vector;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Histogram of the high nibble of random bytes. The scalar loop is a chain
+ * of indexed read-modify-writes; the vector versions compare each vector
+ * against every bucket and count the matching lanes.
+ */
+public class Histogram extends VectorKernel {
+
+    private static final int BUCKETS = 16;
+
+    private byte[] data;
+    private int[] counts;
+
+    @Setup
+    public void setup() {
+        data = new byte[size];
+        counts = new int[BUCKETS];
+        new Random(4711).nextBytes(data);
+    }
+
+    @Benchmark
+    public int[] scalar() {
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < size; i++) {
+            counts[(data[i] >> 4) & 0xF]++;
+        }
+        return counts;
+    }
+
+    @Benchmark
+    public int[] vector128() {
+        return histogram(ByteVector.SPECIES_128);
+    }
+
+    @Benchmark
+    public int[] vector256() {
+        return histogram(ByteVector.SPECIES_256);
+    }
+
+    @Benchmark
+    public int[] vector512() {
+        return histogram(ByteVector.SPECIES_512);
+    }
+
+    private int[] histogram(VectorSpecies<Byte> s) {
+        Arrays.fill(counts, 0);
+        int i = 0;
+        for (; i < s.loopBound(size); i += s.length()) {
+            ByteVector nibbles = ByteVector.fromArray(s, data, i).lanewise(VectorOperators.LSHR, 4);
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                counts[bucket] += nibbles.eq((byte) bucket).trueCount();
+            }
+        }
+        for (; i < size; i++) {
+            counts[(data[i] >> 4) & 0xF]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.jdk.incubator.vector;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Sum of longs multiplied by a large constant, the kernel of
+ * {@code vm.compiler.Multiplication}. x86 only has a vector instruction for
+ * 64 bit multiplication with AVX-512DQ.
+ */
+public class Multiplication extends VectorKernel {
+
+    private static final long FACTOR = 4554345533543L;
+
+    private long[] values;
+
+    @Setup
+    public void setup() {
+        values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = ((100L * i + i) << 32) + 4543 + i * 4;
+        }
+    }
+
+    @Benchmark
+    public long scalar() {
+        long sum = 0;
+        for (long value : values) {
+            sum += value * FACTOR;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long vector128() {
+        return sum(LongVector.SPECIES_128);
+    }
+
+    @Benchmark
+    public long vector256() {
+        return sum(LongVector.SPECIES_256);
+    }
+
+    @Benchmark
+    public long vector512() {
+        return sum(LongVector.SPECIES_512);
+    }
+
+    private long sum(VectorSpecies<Long> s) {
+        LongVector acc = LongVector.zero(s);
+        int i = 0;
+        for (; i < s.loopBound(size); i += s.length()) {
+            acc = acc.add(LongVector.fromArray(s, values, i).mul(FACTOR));
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            sum += values[i] * FACTOR;
+        }
+        return sum;
+    }
+}
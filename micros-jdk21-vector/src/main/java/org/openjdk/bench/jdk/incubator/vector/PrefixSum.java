@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.jdk.incubator.vector;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Random;
+
+/**
+ * Inclusive prefix sum of an int array. The loop carries a dependency that
+ * C2 does not auto-vectorize; the vector versions scan each vector in
+ * log2(lanes) shift-and-add steps and carry the last lane into the next.
+ */
+public class PrefixSum extends VectorKernel {
+
+    private int[] in;
+    private int[] out;
+
+    @Setup
+    public void setup() {
+        Random r = new Random(4711);
+        in = new int[size];
+        out = new int[size];
+        for (int i = 0; i < size; i++) {
+            in[i] = r.nextInt(1 << 10);
+        }
+    }
+
+    @Benchmark
+    public int[] scalar() {
+        int sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += in[i];
+            out[i] = sum;
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int[] vector128() {
+        return scan(IntVector.SPECIES_128);
+    }
+
+    @Benchmark
+    public int[] vector256() {
+        return scan(IntVector.SPECIES_256);
+    }
+
+    @Benchmark
+    public int[] vector512() {
+        return scan(IntVector.SPECIES_512);
+    }
+
+    private int[] scan(VectorSpecies<Integer> s) {
+        int sum = 0;
+        int i = 0;
+        for (; i < s.loopBound(size); i += s.length()) {
+            IntVector v = IntVector.fromArray(s, in, i);
+            for (int shift = 1; shift < s.length(); shift <<= 1) {
+                v = v.add(v.unslice(shift));
+            }
+            v = v.add(sum);
+            v.intoArray(out, i);
+            sum = v.lane(s.length() - 1);
+        }
+        for (; i < size; i++) {
+            sum += in[i];
+            out[i] = sum;
+        }
+        return out;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.io;
+
+import org.openjdk.bench.util.profile.MetricsProfiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes and reads graphs of {@value #OBJECTS} small objects with
+ * {@link ObjectOutputStream} and {@link ObjectInputStream}. Scores are per
+ * object, so with {@code -prof gc} the normalized allocation rate is bytes
+ * allocated per object too. {@link MetricsProfiler} reports the
+ * serialized bytes per object as {@code serial.bytes}:
+ *
+ * <pre>
+ * -prof org.openjdk.bench.util.profile.MetricsProfiler
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public abstract class SerializationBase {
+
+    public static final int OBJECTS = 1000;
+
+    public enum Strategy {
+        /** Default serialization of a {@code Serializable} class */
+        SERIALIZABLE,
+        /** Hand-written {@code writeExternal}/{@code readExternal} */
+        EXTERNALIZABLE,
+        /** {@code writeReplace} to a serialization proxy, {@code readResolve} back */
+        WRITE_REPLACE,
+        /** A {@code Serializable} record, read through its canonical constructor */
+        RECORD
+    }
+
+    public enum Shape {
+        /** An array of unrelated objects */
+        FLAT,
+        /** An array of chains, every object referring to the next one */
+        DEEP,
+        /** A {@code HashMap} of unrelated objects */
+        WIDE,
+        /** An array of objects linked into rings */
+        CYCLIC
+    }
+
+    private Object graph;
+    private byte[] bytes;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    abstract Strategy strategy();
+
+    abstract Shape shape();
+
+    @Setup
+    public void setup() throws IOException {
+        graph = SerializationGraphs.build(strategy(), shape(), OBJECTS);
+        write();
+        bytes = out.toByteArray();
+        MetricsProfiler.record("serial.bytes", (double) bytes.length / OBJECTS, "B/obj");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OBJECTS)
+    public int write() throws IOException {
+        out.reset();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(graph);
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OBJECTS)
+    public Object read() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return ois.readObject();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OBJECTS)
+    public Object roundTrip() throws IOException, ClassNotFoundException {
+        write();
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            return ois.readObject();
+        }
+    }
+}
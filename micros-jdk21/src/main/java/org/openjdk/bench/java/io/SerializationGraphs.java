@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.io;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The object graphs of the serialization benchmarks, built from small
+ * session-like nodes: an id, a version, a name, a score and a reference to
+ * another node. There is one node class per {@link SerializationBase.Strategy}.
+ */
+final class SerializationGraphs {
+
+    /**
+     * Length of the chains and rings. Serialization recurses into every
+     * reference, so reading much longer ones overflows the default thread
+     * stack; try those with a larger {@code -Xss}.
+     */
+    static final int CHAIN = 100;
+
+    private SerializationGraphs() {
+    }
+
+    static Object build(SerializationBase.Strategy strategy, SerializationBase.Shape shape, int n) {
+        switch (shape) {
+            case FLAT: {
+                Object[] nodes = new Object[n];
+                for (int i = 0; i < n; i++) {
+                    nodes[i] = node(strategy, i, null);
+                }
+                return nodes;
+            }
+            case DEEP: {
+                Object[] chains = new Object[(n + CHAIN - 1) / CHAIN];
+                for (int i = n - 1; i >= 0; i--) {
+                    chains[i / CHAIN] = node(strategy, i, (i % CHAIN == CHAIN - 1) ? null : chains[i / CHAIN]);
+                }
+                return chains;
+            }
+            case WIDE: {
+                Map<Integer, Object> nodes = new HashMap<>();
+                for (int i = 0; i < n; i++) {
+                    nodes.put(i, node(strategy, i, null));
+                }
+                return nodes;
+            }
+            case CYCLIC: {
+                Object[] nodes = new Object[n];
+                for (int i = 0; i < n; i++) {
+                    nodes[i] = node(strategy, i, null);
+                }
+                for (int i = 0; i < n; i++) {
+                    int next = (i % CHAIN == CHAIN - 1 || i == n - 1) ? i - i % CHAIN : i + 1;
+                    link(nodes[i], nodes[next]);
+                }
+                return nodes;
+            }
+            default:
+                throw new IllegalArgumentException(shape.toString());
+        }
+    }
+
+    private static Object node(SerializationBase.Strategy strategy, int i, Object ref) {
+        String name = "session-" + i;
+        switch (strategy) {
+            case SERIALIZABLE:
+                return new SerialNode(i, i & 7, name, i * 0.5, (SerialNode) ref);
+            case EXTERNALIZABLE:
+                return new ExternalNode(i, i & 7, name, i * 0.5, (ExternalNode) ref);
+            case WRITE_REPLACE:
+                return new ReplacedNode(i, i & 7, name, i * 0.5, (ReplacedNode) ref);
+            case RECORD:
+                return new RecordNode(i, i & 7, name, i * 0.5, (RecordNode) ref);
+            default:
+                throw new IllegalArgumentException(strategy.toString());
+        }
+    }
+
+    private static void link(Object node, Object ref) {
+        if (node instanceof SerialNode) {
+            ((SerialNode) node).ref = (SerialNode) ref;
+        } else if (node instanceof ExternalNode) {
+            ((ExternalNode) node).ref = (ExternalNode) ref;
+        } else {
+            throw new IllegalArgumentException(node.getClass().getSimpleName() + " cannot form cycles");
+        }
+    }
+
+    static final class SerialNode implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        long id;
+        int version;
+        String name;
+        double score;
+        SerialNode ref;
+
+        SerialNode(long id, int version, String name, double score, SerialNode ref) {
+            this.id = id;
+            this.version = version;
+            this.name = name;
+            this.score = score;
+            this.ref = ref;
+        }
+    }
+
+    public static final class ExternalNode implements Externalizable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        long id;
+        int version;
+        String name;
+        double score;
+        ExternalNode ref;
+
+        public ExternalNode() {
+        }
+
+        ExternalNode(long id, int version, String name, double score, ExternalNode ref) {
+            this.id = id;
+            this.version = version;
+            this.name = name;
+            this.score = score;
+            this.ref = ref;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeLong(id);
+            out.writeInt(version);
+            out.writeUTF(name);
+            out.writeDouble(score);
+            out.writeObject(ref);
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            id = in.readLong();
+            version = in.readInt();
+            name = in.readUTF();
+            score = in.readDouble();
+            ref = (ExternalNode) in.readObject();
+        }
+    }
+
+    /**
+     * Immutable node written through a serialization proxy, which is
+     * resolved back into a node when read. Proxies cannot form cycles: a
+     * back reference to a proxy still being read is not resolved.
+     */
+    static final class ReplacedNode implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        final long id;
+        final int version;
+        final String name;
+        final double score;
+        final ReplacedNode ref;
+
+        ReplacedNode(long id, int version, String name, double score, ReplacedNode ref) {
+            this.id = id;
+            this.version = version;
+            this.name = name;
+            this.score = score;
+            this.ref = ref;
+        }
+
+        @Serial
+        private Object writeReplace() {
+            return new Proxy(this);
+        }
+
+        private static final class Proxy implements Serializable {
+            @Serial
+            private static final long serialVersionUID = 1L;
+
+            private final long id;
+            private final int version;
+            private final String name;
+            private final double score;
+            private final ReplacedNode ref;
+
+            Proxy(ReplacedNode node) {
+                this.id = node.id;
+                this.version = node.version;
+                this.name = node.name;
+                this.score = node.score;
+                this.ref = node.ref;
+            }
+
+            @Serial
+            private Object readResolve() {
+                return new ReplacedNode(id, version, name, score, ref);
+            }
+        }
+    }
+
+    record RecordNode(long id, int version, String name, double score, RecordNode ref) implements Serializable {
+    }
+}
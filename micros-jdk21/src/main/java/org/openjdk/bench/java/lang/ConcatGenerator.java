@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.lang;
+
+import org.openjdk.bench.util.InMemoryJavaCompiler;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates and compiles a class that joins a given number of fields of
+ * mixed types with ':' in different ways, for the string concatenation
+ * benchmarks. The fields cycle through {@code String}, {@code int},
+ * {@code long}, {@code char}, {@code boolean} and an enum. The class is
+ * compiled at run time with the given {@code -XDstringConcat} strategy of
+ * javac, and defined as a hidden class, so that every state gets its own.
+ */
+final class ConcatGenerator {
+
+    interface Concatenation {
+        /** {@code f0 + ":" + f1 + ...}, compiled with the javac strategy */
+        String concat();
+
+        String builder();
+
+        /** With the capacity the result needs */
+        String builderSized();
+
+        String join();
+
+        String format();
+
+        String formatted();
+
+        String messageFormat();
+    }
+
+    private static final String[] TYPES = {"String", "int", "long", "char", "boolean", "TimeUnit"};
+    private static final String[] BOXES = {"String", "Integer", "Long", "Character", "Boolean", "TimeUnit"};
+
+    private ConcatGenerator() {
+    }
+
+    static Concatenation generate(int arity, String strategy) throws Throwable {
+        byte[] bytes = InMemoryJavaCompiler.compile("org.openjdk.bench.java.lang.Concat" + arity,
+                source(arity), "-XDstringConcat=" + strategy);
+        MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+        Object[] values = new Object[arity];
+        for (int i = 0; i < arity; i++) {
+            values[i] = value(i);
+        }
+        return (Concatenation) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, Object[].class))
+                .invoke(values);
+    }
+
+    private static Object value(int i) {
+        return switch (i % TYPES.length) {
+            case 0 -> "value" + i;
+            case 1 -> i * 7919;
+            case 2 -> (long) i << 33;
+            case 3 -> (char) ('a' + i % 26);
+            case 4 -> (i & 1) == 0;
+            default -> TimeUnit.values()[i % TimeUnit.values().length];
+        };
+    }
+
+    private static String source(int arity) {
+        StringBuilder fields = new StringBuilder();
+        StringBuilder init = new StringBuilder();
+        StringBuilder concat = new StringBuilder();
+        StringBuilder append = new StringBuilder();
+        StringBuilder args = new StringBuilder();
+        StringBuilder strings = new StringBuilder();
+        StringBuilder pattern = new StringBuilder();
+        StringBuilder messagePattern = new StringBuilder();
+        for (int i = 0; i < arity; i++) {
+            String type = TYPES[i % TYPES.length];
+            String sep = i == 0 ? "" : ", ";
+            fields.append("    private final ").append(type).append(" f").append(i).append(";\n");
+            init.append("        f").append(i).append(" = (").append(BOXES[i % BOXES.length])
+                    .append(") values[").append(i).append("];\n");
+            concat.append(i == 0 ? "" : " + \":\" + ").append('f').append(i);
+            append.append(i == 0 ? "" : ".append(':')").append(".append(f").append(i).append(')');
+            args.append(sep).append('f').append(i);
+            strings.append(sep).append("String.valueOf(f").append(i).append(')');
+            pattern.append(i == 0 ? "" : ":").append("%s");
+            messagePattern.append(i == 0 ? "" : ":").append('{').append(i).append('}');
+        }
+        return "package org.openjdk.bench.java.lang;\n"
+                + "import java.text.MessageFormat;\n"
+                + "import java.util.concurrent.TimeUnit;\n"
+                + "final class Concat" + arity + " implements ConcatGenerator.Concatenation {\n"
+                + fields
+                + "    private final int length;\n"
+                + "    private final MessageFormat messageFormat = new MessageFormat(\"" + messagePattern + "\");\n"
+                + "    Concat" + arity + "(Object[] values) {\n"
+                + init
+                + "        length = builder().length();\n"
+                + "    }\n"
+                + "    public String concat() { return " + concat + "; }\n"
+                + "    public String builder() { return new StringBuilder()" + append + ".toString(); }\n"
+                + "    public String builderSized() { return new StringBuilder(length)" + append + ".toString(); }\n"
+                + "    public String join() { return String.join(\":\", " + strings + "); }\n"
+                + "    public String format() { return String.format(\"" + pattern + "\", " + args + "); }\n"
+                + "    public String formatted() { return \"" + pattern + "\".formatted(" + args + "); }\n"
+                + "    public String messageFormat() { return messageFormat.format(new Object[] {" + args + "}); }\n"
+                + "}\n";
+    }
+}
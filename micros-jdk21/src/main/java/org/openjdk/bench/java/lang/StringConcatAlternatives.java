@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.lang;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Joins the same values of mixed types with ':' through string
+ * concatenation and the usual alternatives: a {@code StringBuilder} with
+ * the default and with the exact capacity, {@code String.join},
+ * {@code String.format}, {@code formatted()} and {@code MessageFormat}.
+ * Run with {@code -prof gc} to compare the allocation per operation.
+ * {@code MessageFormat} formats numbers for the locale, so its result
+ * differs from the others. See {@link ConcatGenerator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class StringConcatAlternatives {
+
+    @Param({"2", "5", "10", "20", "50"})
+    private int arity;
+
+    private ConcatGenerator.Concatenation concatenation;
+
+    @Setup
+    public void setup() throws Throwable {
+        concatenation = ConcatGenerator.generate(arity, "indyWithConstants");
+    }
+
+    @Benchmark
+    public String concat() {
+        return concatenation.concat();
+    }
+
+    @Benchmark
+    public String builder() {
+        return concatenation.builder();
+    }
+
+    @Benchmark
+    public String builderSized() {
+        return concatenation.builderSized();
+    }
+
+    @Benchmark
+    public String join() {
+        return concatenation.join();
+    }
+
+    @Benchmark
+    public String format() {
+        return concatenation.format();
+    }
+
+    @Benchmark
+    public String formatted() {
+        return concatenation.formatted();
+    }
+
+    @Benchmark
+    public String messageFormat() {
+        return concatenation.messageFormat();
+    }
+}
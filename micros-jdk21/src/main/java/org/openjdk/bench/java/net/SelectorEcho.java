@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.net;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request/response round trips against a loopback echo server holding
+ * {@code connections} open connections.
+ *
+ * The server either multiplexes all connections on one {@link Selector},
+ * spreads them over one selector per available processor, or serves each
+ * connection from its own virtual thread with blocking reads and writes.
+ * Each benchmark thread acts as a client owning an equal share of the
+ * connections; an operation sends one {@code messageSize} message on the
+ * client's next connection and waits for the echo. Most connections are
+ * idle at any time, as on a gateway, and the server must still track all of
+ * them.
+ *
+ * {@code requests} reports requests per second and {@code latency} the
+ * round-trip time percentiles. Use {@code -t} to change the number of clients. Each
+ * connection takes two file descriptors, so 10000 connections need
+ * {@code ulimit -n} above 20000.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@Threads(4)
+@State(Scope.Benchmark)
+public class SelectorEcho {
+
+    public enum Server {
+        SELECTOR, SELECTOR_PER_CORE, VIRTUAL_THREAD_PER_CONNECTION
+    }
+
+    @Param({"10", "1000", "10000"})
+    private int connections;
+
+    @Param({"64", "1024", "16384"})
+    private int messageSize;
+
+    @Param
+    private Server server;
+
+    private ServerSocketChannel ssc;
+    private final List<Thread> serverThreads = new ArrayList<>();
+    private final List<SelectorLoop> loops = new ArrayList<>();
+    private SocketChannel[] clients;
+
+    @Setup(Level.Trial)
+    public void beforeRun() throws IOException, InterruptedException {
+        ssc = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+
+        int selectors = server == Server.SELECTOR ? 1
+                : server == Server.SELECTOR_PER_CORE ? Runtime.getRuntime().availableProcessors() : 0;
+        for (int i = 0; i < selectors; i++) {
+            SelectorLoop loop = new SelectorLoop(messageSize);
+            loops.add(loop);
+            serverThreads.add(Thread.ofPlatform().name("echo-selector-" + i).daemon().start(loop));
+        }
+        serverThreads.add(Thread.ofPlatform().name("echo-acceptor").daemon().start(this::accept));
+
+        clients = new SocketChannel[connections];
+        for (int i = 0; i < connections; i++) {
+            clients[i] = SocketChannel.open(ssc.getLocalAddress());
+            clients[i].setOption(StandardSocketOptions.TCP_NODELAY, true);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void afterRun() throws IOException, InterruptedException {
+        for (SocketChannel c : clients) {
+            c.close();
+        }
+        ssc.close();
+        for (SelectorLoop loop : loops) {
+            loop.shutdown();
+        }
+        for (Thread t : serverThreads) {
+            t.join();
+        }
+    }
+
+    private void accept() {
+        int next = 0;
+        try {
+            while (true) {
+                SocketChannel sc = ssc.accept();
+                sc.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                if (loops.isEmpty()) {
+                    Thread.ofVirtual().start(() -> echoBlocking(sc, messageSize));
+                } else {
+                    loops.get(next++ % loops.size()).register(sc);
+                }
+            }
+        } catch (ClosedChannelException e) {
+            // shutdown time
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void echoBlocking(SocketChannel sc, int messageSize) {
+        try (sc) {
+            ByteBuffer bb = ByteBuffer.allocateDirect(messageSize);
+            while (sc.read(bb) >= 0) {
+                bb.flip();
+                while (bb.hasRemaining()) {
+                    sc.write(bb);
+                }
+                bb.clear();
+            }
+        } catch (IOException e) {
+            // client closed the connection
+        }
+    }
+
+    /**
+     * Echoes everything it reads on the channels registered with its
+     * selector. A reply that does not fit into the socket buffer is finished
+     * when the channel becomes writable, before reading further.
+     */
+    static final class SelectorLoop implements Runnable {
+        private final Selector selector;
+        private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+        private final int messageSize;
+        private volatile boolean running = true;
+
+        SelectorLoop(int messageSize) throws IOException {
+            this.selector = Selector.open();
+            this.messageSize = messageSize;
+        }
+
+        void register(SocketChannel sc) {
+            pending.add(sc);
+            selector.wakeup();
+        }
+
+        void shutdown() {
+            running = false;
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try (selector) {
+                while (running) {
+                    selector.select();
+                    SocketChannel sc;
+                    while ((sc = pending.poll()) != null) {
+                        sc.configureBlocking(false);
+                        sc.register(selector, SelectionKey.OP_READ, ByteBuffer.allocateDirect(messageSize));
+                    }
+                    for (SelectionKey key : selector.selectedKeys()) {
+                        handle(key);
+                    }
+                    selector.selectedKeys().clear();
+                }
+                for (SelectionKey key : selector.keys()) {
+                    key.channel().close();
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        private static void handle(SelectionKey key) {
+            SocketChannel sc = (SocketChannel) key.channel();
+            ByteBuffer bb = (ByteBuffer) key.attachment();
+            try {
+                if (key.isReadable()) {
+                    if (sc.read(bb) < 0) {
+                        key.cancel();
+                        sc.close();
+                        return;
+                    }
+                    bb.flip();
+                }
+                sc.write(bb);
+                if (bb.hasRemaining()) {
+                    key.interestOps(SelectionKey.OP_WRITE);
+                } else {
+                    bb.clear();
+                    key.interestOps(SelectionKey.OP_READ);
+                }
+            } catch (IOException e) {
+                key.cancel();
+                try {
+                    sc.close();
+                } catch (IOException ignore) {
+                    // already failing
+                }
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        private SocketChannel[] mine;
+        private ByteBuffer request;
+        private ByteBuffer response;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setup(SelectorEcho echo, ThreadParams threads) {
+            int n = threads.getThreadCount();
+            int index = threads.getThreadIndex();
+            List<SocketChannel> share = new ArrayList<>();
+            for (int i = index; i < echo.connections; i += n) {
+                share.add(echo.clients[i]);
+            }
+            if (share.isEmpty()) {
+                throw new IllegalStateException("More client threads than connections");
+            }
+            mine = share.toArray(new SocketChannel[0]);
+            request = ByteBuffer.allocateDirect(echo.messageSize);
+            while (request.hasRemaining()) {
+                request.put((byte) request.position());
+            }
+            response = ByteBuffer.allocateDirect(echo.messageSize);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public ByteBuffer requests(Client c) throws IOException {
+        return roundTrip(c);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ByteBuffer latency(Client c) throws IOException {
+        return roundTrip(c);
+    }
+
+    private static ByteBuffer roundTrip(Client c) throws IOException {
+        SocketChannel sc = c.mine[c.next];
+        c.next = c.next + 1 == c.mine.length ? 0 : c.next + 1;
+        ByteBuffer request = c.request.clear();
+        while (request.hasRemaining()) {
+            sc.write(request);
+        }
+        ByteBuffer response = c.response.clear();
+        while (response.hasRemaining()) {
+            if (sc.read(response) < 0) {
+                throw new EOFException();
+            }
+        }
+        return response;
+    }
+}
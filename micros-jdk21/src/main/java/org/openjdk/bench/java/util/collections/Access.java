@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.collections;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+/**
+ * Order of the lookups in the collections benchmarks.
+ */
+public enum Access {
+    /** The keys in the order they were inserted */
+    SEQUENTIAL,
+    /** The keys in random order */
+    RANDOM,
+    /** Keys that are not in the collection */
+    MISSING;
+
+    /**
+     * Returns lookup keys for a collection that holds the keys 0 until size
+     * of the given type, in this order. They are equal to the keys in the
+     * collection, but not the same instances.
+     */
+    Object[] probes(KeyType type, int size) {
+        Object[] probes = new Object[size];
+        for (int i = 0; i < size; i++) {
+            probes[i] = type.key(this == MISSING ? size + i : i);
+        }
+        if (this == RANDOM) {
+            Collections.shuffle(Arrays.asList(probes), new Random(42));
+        }
+        return probes;
+    }
+}
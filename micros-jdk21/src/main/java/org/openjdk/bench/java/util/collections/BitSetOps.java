@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sets of ints as a {@link BitSet}, a {@code boolean[]} and a
+ * {@code HashSet<Integer>}: membership tests, iteration, intersection and
+ * counting. About half of the ints from 0 until twice the size are
+ * members, chosen at random; {@link Access#MISSING} probes the ints above
+ * that range. Lookups use one int per operation, cycling through the
+ * probes. See {@link CollectionsBase} for the footprint profiler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms4g", "-Xmx4g",
+        "--add-opens=java.base/java.lang=ALL-UNNAMED", "--add-opens=java.base/java.util=ALL-UNNAMED"})
+@State(Scope.Thread)
+public class BitSetOps {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "MISSING"})
+    private Access access;
+
+    private BitSet bitSet;
+    private BitSet otherBitSet;
+    private boolean[] booleans;
+    private boolean[] otherBooleans;
+    private Set<Integer> hashSet;
+    private Set<Integer> otherHashSet;
+    private int[] probes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        int range = 2 * size;
+        Random r = new Random(42);
+        bitSet = new BitSet(range);
+        otherBitSet = new BitSet(range);
+        booleans = new boolean[range];
+        otherBooleans = new boolean[range];
+        hashSet = new HashSet<>();
+        otherHashSet = new HashSet<>();
+        for (int i = 0; i < range; i++) {
+            if (r.nextBoolean()) {
+                bitSet.set(i);
+                booleans[i] = true;
+                hashSet.add(i);
+            }
+            if (r.nextBoolean()) {
+                otherBitSet.set(i);
+                otherBooleans[i] = true;
+                otherHashSet.add(i);
+            }
+        }
+        probes = new int[range];
+        for (int i = 0; i < range; i++) {
+            probes[i] = access == Access.MISSING ? range + i : i;
+        }
+        if (access == Access.RANDOM) {
+            for (int i = range - 1; i > 0; i--) {
+                int j = r.nextInt(i + 1);
+                int t = probes[i];
+                probes[i] = probes[j];
+                probes[j] = t;
+            }
+        }
+        int members = hashSet.size();
+        Footprint.record("bitSet", bitSet, members);
+        Footprint.record("booleanArray", booleans, members);
+        Footprint.record("hashSet", hashSet, members);
+    }
+
+    private int nextProbe() {
+        int i = probes[next];
+        if (++next == probes.length) {
+            next = 0;
+        }
+        return i;
+    }
+
+    @Benchmark
+    public boolean bitSetGet() {
+        return bitSet.get(nextProbe());
+    }
+
+    @Benchmark
+    public boolean booleanArrayGet() {
+        int i = nextProbe();
+        return i < booleans.length && booleans[i];
+    }
+
+    @Benchmark
+    public boolean hashSetContains() {
+        return hashSet.contains(nextProbe());
+    }
+
+    @Benchmark
+    public long bitSetIterate() {
+        long sum = 0;
+        for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(i + 1)) {
+            sum += i;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long booleanArrayIterate() {
+        long sum = 0;
+        for (int i = 0; i < booleans.length; i++) {
+            if (booleans[i]) {
+                sum += i;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long hashSetIterate() {
+        long sum = 0;
+        for (int i : hashSet) {
+            sum += i;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public BitSet bitSetAnd() {
+        BitSet b = (BitSet) bitSet.clone();
+        b.and(otherBitSet);
+        return b;
+    }
+
+    @Benchmark
+    public boolean[] booleanArrayAnd() {
+        boolean[] b = booleans.clone();
+        for (int i = 0; i < b.length; i++) {
+            b[i] &= otherBooleans[i];
+        }
+        return b;
+    }
+
+    @Benchmark
+    public Set<Integer> hashSetRetainAll() {
+        Set<Integer> s = new HashSet<>(hashSet);
+        s.retainAll(otherHashSet);
+        return s;
+    }
+
+    @Benchmark
+    public int bitSetCardinality() {
+        return bitSet.cardinality();
+    }
+
+    @Benchmark
+    public int booleanArrayCardinality() {
+        int n = 0;
+        for (boolean b : booleans) {
+            if (b) {
+                n++;
+            }
+        }
+        return n;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * contains() on the list and queue implementations, which scan their
+ * elements, with a {@code HashSet} as reference.
+ */
+public class CollectionLookup extends CollectionsBase {
+
+    @Param({"ArrayList", "ArrayDeque", "LinkedList", "PriorityQueue", "HashSet"})
+    private String impl;
+
+    @Param({"SEQUENTIAL", "RANDOM", "MISSING"})
+    private Access access;
+
+    private Collection<Object> collection;
+    private Object[] probes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        collection = newCollection(impl, Arrays.asList(keys()));
+        probes = access.probes(keyType, size);
+        Footprint.record("collection", collection, size);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        Object key = probes[next];
+        if (++next == probes.length) {
+            next = 0;
+        }
+        return collection.contains(key);
+    }
+}
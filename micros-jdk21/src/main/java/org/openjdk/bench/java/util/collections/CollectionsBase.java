@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.collections;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Common parameters of the collections benchmarks: the number of elements
+ * and their type. Lookups use one key per operation, cycling through the
+ * keys given by {@link Access}, so that the same cost is added to every
+ * implementation. With {@link org.openjdk.bench.util.profile.MetricsProfiler},
+ * {@link Footprint} reports the heap footprint of the collection under test:
+ *
+ * <pre>
+ * -prof org.openjdk.bench.util.profile.MetricsProfiler
+ * </pre>
+ *
+ * The largest sizes need a few gigabytes of heap, hence the fixed heap size.
+ * The profiler reads the private fields of the JDK collections, hence the
+ * {@code --add-opens} options.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms4g", "-Xmx4g",
+        "--add-opens=java.base/java.lang=ALL-UNNAMED", "--add-opens=java.base/java.util=ALL-UNNAMED"})
+@State(Scope.Thread)
+public abstract class CollectionsBase {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int size;
+
+    @Param({"INTEGER", "STRING", "RECORD"})
+    KeyType keyType;
+
+    /**
+     * Returns the keys 0 until size, in order.
+     */
+    Object[] keys() {
+        Object[] keys = new Object[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = keyType.key(i);
+        }
+        return keys;
+    }
+
+    /**
+     * Returns a new map of the given implementation in which the keys 0 until
+     * size map to themselves, inserted in order.
+     */
+    Map<Object, Object> keyMap(String impl) {
+        Map<Object, Object> map = newMap(impl, Map.of());
+        for (int i = 0; i < size; i++) {
+            Object key = keyType.key(i);
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    static Collection<Object> newCollection(String impl, Collection<Object> c) {
+        return switch (impl) {
+            case "ArrayList" -> new ArrayList<>(c);
+            case "ArrayDeque" -> new ArrayDeque<>(c);
+            case "LinkedList" -> new LinkedList<>(c);
+            case "PriorityQueue" -> new PriorityQueue<>(c);
+            case "HashSet" -> new HashSet<>(c);
+            case "LinkedHashSet" -> new LinkedHashSet<>(c);
+            case "TreeSet" -> new TreeSet<>(c);
+            default -> throw new IllegalArgumentException("Unknown collection: " + impl);
+        };
+    }
+
+    static Map<Object, Object> newMap(String impl, Map<Object, Object> m) {
+        return switch (impl) {
+            case "HashMap" -> new HashMap<>(m);
+            case "LinkedHashMap" -> new LinkedHashMap<>(m);
+            case "TreeMap" -> new TreeMap<>(m);
+            default -> throw new IllegalArgumentException("Unknown map: " + impl);
+        };
+    }
+}
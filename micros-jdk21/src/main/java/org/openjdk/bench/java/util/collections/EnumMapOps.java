@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EnumMap} against {@link HashMap} with all the {@link ChronoUnit}
+ * constants as keys. Lookups and puts use one key per operation, cycling
+ * through the constants in ordinal or random order. The footprint of the
+ * {@code EnumMap} includes the array of constants that every
+ * {@code EnumMap} of the same key type shares. See {@link CollectionsBase}
+ * for the footprint profiler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3, jvmArgsAppend = {
+        "--add-opens=java.base/java.lang=ALL-UNNAMED", "--add-opens=java.base/java.util=ALL-UNNAMED"})
+@State(Scope.Thread)
+public class EnumMapOps {
+
+    private static final int PROBES = 1024;
+
+    @Param({"SEQUENTIAL", "RANDOM"})
+    private Access access;
+
+    private Map<ChronoUnit, Integer> enumMap;
+    private Map<ChronoUnit, Integer> hashMap;
+    private ChronoUnit[] probes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        ChronoUnit[] units = ChronoUnit.values();
+        enumMap = new EnumMap<>(ChronoUnit.class);
+        hashMap = new HashMap<>();
+        for (ChronoUnit u : units) {
+            enumMap.put(u, u.ordinal());
+            hashMap.put(u, u.ordinal());
+        }
+        Random r = new Random(42);
+        probes = new ChronoUnit[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = units[access == Access.RANDOM ? r.nextInt(units.length) : i % units.length];
+        }
+        Footprint.record("enumMap", enumMap, units.length);
+        Footprint.record("hashMap", hashMap, units.length);
+    }
+
+    private ChronoUnit nextKey() {
+        ChronoUnit key = probes[next];
+        next = (next + 1) & (PROBES - 1);
+        return key;
+    }
+
+    @Benchmark
+    public Integer enumMapGet() {
+        return enumMap.get(nextKey());
+    }
+
+    @Benchmark
+    public Integer hashMapGet() {
+        return hashMap.get(nextKey());
+    }
+
+    @Benchmark
+    public Integer enumMapPut() {
+        ChronoUnit key = nextKey();
+        return enumMap.put(key, key.ordinal());
+    }
+
+    @Benchmark
+    public Integer hashMapPut() {
+        ChronoUnit key = nextKey();
+        return hashMap.put(key, key.ordinal());
+    }
+
+    @Benchmark
+    public void enumMapIterate(Blackhole bh) {
+        for (Map.Entry<ChronoUnit, Integer> e : enumMap.entrySet()) {
+            bh.consume(e.getKey());
+            bh.consume(e.getValue());
+        }
+    }
+
+    @Benchmark
+    public void hashMapIterate(Blackhole bh) {
+        for (Map.Entry<ChronoUnit, Integer> e : hashMap.entrySet()) {
+            bh.consume(e.getKey());
+            bh.consume(e.getValue());
+        }
+    }
+
+    @Benchmark
+    public Map<ChronoUnit, Integer> enumMapCopy() {
+        return new EnumMap<>(enumMap);
+    }
+
+    @Benchmark
+    public Map<ChronoUnit, Integer> hashMapCopy() {
+        return new HashMap<>(hashMap);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.collections;
+
+/**
+ * Element and key types of the collections benchmarks. All of them are
+ * {@code Comparable}, so that the sorted collections can hold them too.
+ */
+public enum KeyType {
+    /** {@code Integer}, the boxes below 128 are shared like autoboxing does */
+    INTEGER {
+        @Override
+        Object key(int i) {
+            return i;
+        }
+    },
+    /** Short strings, their hash codes are cached after the first use */
+    STRING {
+        @Override
+        Object key(int i) {
+            return "key" + i;
+        }
+    },
+    /** A record of two ints, its hash code is computed on every call */
+    RECORD {
+        @Override
+        Object key(int i) {
+            return new Point(i, ~i);
+        }
+    };
+
+    public record Point(int x, int y) implements Comparable<Point> {
+        @Override
+        public int compareTo(Point o) {
+            int c = Integer.compare(x, o.x);
+            return c != 0 ? c : Integer.compare(y, o.y);
+        }
+    }
+
+    /**
+     * Returns the i-th key. Every call returns a new instance that is equal
+     * to the ones returned before, except for the shared small integers.
+     */
+    abstract Object key(int i);
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+
+/**
+ * Iteration and bulk operations over the map implementations. Every key
+ * maps to itself, so the footprint is that of the map and its keys.
+ * removeIf() works on a copy, so subtract the score of copy() from it.
+ */
+public class MapOps extends CollectionsBase {
+
+    @Param({"HashMap", "LinkedHashMap", "TreeMap"})
+    private String impl;
+
+    private Map<Object, Object> map;
+
+    @Setup
+    public void setup() {
+        map = keyMap(impl);
+        Footprint.record("map", map, size);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Map.Entry<Object, Object> e : map.entrySet()) {
+            bh.consume(e.getKey());
+            bh.consume(e.getValue());
+        }
+    }
+
+    @Benchmark
+    public void forEach(Blackhole bh) {
+        map.forEach((k, v) -> {
+            bh.consume(k);
+            bh.consume(v);
+        });
+    }
+
+    @Benchmark
+    public Map<Object, Object> copy() {
+        return newMap(impl, map);
+    }
+
+    @Benchmark
+    public Map<Object, Object> putAll() {
+        Map<Object, Object> m = newMap(impl, Map.of());
+        m.putAll(map);
+        return m;
+    }
+
+    @Benchmark
+    public Map<Object, Object> removeIf() {
+        Map<Object, Object> m = newMap(impl, map);
+        m.entrySet().removeIf(e -> (e.getKey().hashCode() & 1) == 0);
+        return m;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.SequencedCollection;
+import java.util.SequencedMap;
+
+/**
+ * The {@link SequencedCollection} operations: first and last element and
+ * iteration in both directions. The maps are accessed through their
+ * {@link SequencedMap#sequencedKeySet()} views.
+ */
+public class SequencedOps extends CollectionsBase {
+
+    @Param({"ArrayList", "ArrayDeque", "LinkedList", "LinkedHashSet", "TreeSet", "LinkedHashMap", "TreeMap"})
+    private String impl;
+
+    private SequencedCollection<Object> collection;
+
+    @Setup
+    public void setup() {
+        if (impl.endsWith("Map")) {
+            SequencedMap<Object, Object> map = (SequencedMap<Object, Object>) keyMap(impl);
+            collection = map.sequencedKeySet();
+            Footprint.record("collection", map, size);
+        } else {
+            collection = (SequencedCollection<Object>) newCollection(impl, Arrays.asList(keys()));
+            Footprint.record("collection", collection, size);
+        }
+    }
+
+    @Benchmark
+    public void firstLast(Blackhole bh) {
+        bh.consume(collection.getFirst());
+        bh.consume(collection.getLast());
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Object o : collection) {
+            bh.consume(o);
+        }
+    }
+
+    @Benchmark
+    public void iterateReversed(Blackhole bh) {
+        for (Object o : collection.reversed()) {
+            bh.consume(o);
+        }
+    }
+}
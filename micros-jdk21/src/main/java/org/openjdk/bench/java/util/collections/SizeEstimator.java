@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.collections;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates the heap size of everything reachable from an object, the way
+ * JOL does without an agent: object header, reference size and alignment
+ * come from the flags of the running VM, instance sizes from the declared
+ * fields. Fields are assumed to be packed without gaps, so an instance may
+ * be estimated a few bytes smaller than it is. {@code Class} objects and
+ * enum constants are shared by everything, so they are not counted.
+ * Reading the fields of JDK classes needs their packages to be opened to
+ * the unnamed module.
+ */
+final class SizeEstimator {
+
+    private record Layout(long size, Field[] references) {}
+
+    private final int headerSize;
+    private final int referenceSize;
+    private final int alignment;
+    private final Map<Class<?>, Layout> layouts = new HashMap<>();
+
+    SizeEstimator() {
+        HotSpotDiagnosticMXBean vm = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        if (flag(vm, "UseCompactObjectHeaders")) {
+            headerSize = 8;
+        } else if (flag(vm, "UseCompressedClassPointers")) {
+            headerSize = 12;
+        } else {
+            headerSize = 16;
+        }
+        referenceSize = flag(vm, "UseCompressedOops") ? 4 : 8;
+        alignment = Integer.parseInt(vm.getVMOption("ObjectAlignmentInBytes").getValue());
+    }
+
+    private static boolean flag(HotSpotDiagnosticMXBean vm, String name) {
+        try {
+            return Boolean.parseBoolean(vm.getVMOption(name).getValue());
+        } catch (IllegalArgumentException e) {
+            // not a flag of this VM
+            return false;
+        }
+    }
+
+    long sizeOf(Object root) {
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        visit(root, seen, pending);
+        long size = 0;
+        while (!pending.isEmpty()) {
+            Object o = pending.pop();
+            Class<?> c = o.getClass();
+            if (c.isArray()) {
+                Class<?> component = c.getComponentType();
+                int elementSize = sizeOf(component);
+                size += align(align(headerSize + 4, elementSize) + (long) Array.getLength(o) * elementSize);
+                if (!component.isPrimitive()) {
+                    for (Object e : (Object[]) o) {
+                        visit(e, seen, pending);
+                    }
+                }
+            } else {
+                Layout layout = layout(c);
+                size += layout.size();
+                for (Field f : layout.references()) {
+                    try {
+                        visit(f.get(o), seen, pending);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    private static void visit(Object o, Set<Object> seen, Deque<Object> pending) {
+        if (o != null && !(o instanceof Class) && !(o instanceof Enum) && seen.add(o)) {
+            pending.push(o);
+        }
+    }
+
+    private Layout layout(Class<?> c) {
+        Layout layout = layouts.get(c);
+        if (layout == null) {
+            long fields = 0;
+            List<Field> references = new ArrayList<>();
+            for (Class<?> k = c; k != null; k = k.getSuperclass()) {
+                for (Field f : k.getDeclaredFields()) {
+                    if (Modifier.isStatic(f.getModifiers())) {
+                        continue;
+                    }
+                    fields += sizeOf(f.getType());
+                    if (!f.getType().isPrimitive()) {
+                        try {
+                            f.setAccessible(true);
+                        } catch (InaccessibleObjectException e) {
+                            throw new IllegalStateException("Cannot read " + f + ", open its package with --add-opens", e);
+                        }
+                        references.add(f);
+                    }
+                }
+            }
+            layout = new Layout(align(headerSize + fields), references.toArray(new Field[0]));
+            layouts.put(c, layout);
+        }
+        return layout;
+    }
+
+    private int sizeOf(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return referenceSize;
+    }
+
+    private long align(long size) {
+        return align(size, alignment);
+    }
+
+    private static long align(long size, int alignment) {
+        return (size + alignment - 1) / alignment * alignment;
+    }
+}
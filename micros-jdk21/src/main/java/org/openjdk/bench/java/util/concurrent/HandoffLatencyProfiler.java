@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.concurrent;
+
+import org.openjdk.bench.util.profile.IterationProfiler;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Reports hand-off latency percentiles recorded by the consumers of
+ * {@link VirtualThreadProducerConsumer}. JMH cannot aggregate percentiles
+ * through {@code @AuxCounters}, hence a profiler:
+ *
+ * <pre>
+ * -prof org.openjdk.bench.java.util.concurrent.HandoffLatencyProfiler
+ * </pre>
+ */
+public class HandoffLatencyProfiler extends IterationProfiler {
+
+    static final List<LatencyHistogram> HISTOGRAMS = new CopyOnWriteArrayList<>();
+
+    public HandoffLatencyProfiler() {
+        super("Producer to consumer hand-off latency percentiles");
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        for (LatencyHistogram h : HISTOGRAMS) {
+            h.reset();
+        }
+    }
+
+    @Override
+    protected void report(BenchmarkParams benchmarkParams, IterationResult result, List<Result> results) {
+        LatencyHistogram merged = new LatencyHistogram();
+        for (LatencyHistogram h : HISTOGRAMS) {
+            h.addTo(merged);
+        }
+        if (merged.count() > 0) {
+            add(results, "handoff.p0.50", merged.percentile(0.50), "ns", AggregationPolicy.AVG);
+            add(results, "handoff.p0.99", merged.percentile(0.99), "ns", AggregationPolicy.AVG);
+            add(results, "handoff.p0.999", merged.percentile(0.999), "ns", AggregationPolicy.AVG);
+        }
+    }
+}
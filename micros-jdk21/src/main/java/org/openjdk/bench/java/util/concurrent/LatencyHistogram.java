@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.concurrent;
+
+import java.util.Arrays;
+
+/**
+ * Log-linear histogram of nanosecond latencies with a relative bucket
+ * width of 1/32. Recording is not thread-safe; each recording thread owns
+ * its histogram, and histograms are merged once the threads are quiescent.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    private final long[] counts = new long[(64 - SUB_BITS) * SUB_BUCKETS];
+
+    void record(long nanos) {
+        counts[index(Math.max(0, nanos))]++;
+    }
+
+    void reset() {
+        Arrays.fill(counts, 0);
+    }
+
+    void addTo(LatencyHistogram target) {
+        for (int i = 0; i < counts.length; i++) {
+            target.counts[i] += counts[i];
+        }
+    }
+
+    long count() {
+        long n = 0;
+        for (long c : counts) {
+            n += c;
+        }
+        return n;
+    }
+
+    /**
+     * @param q quantile in [0, 1]
+     * @return upper bound of the bucket holding the quantile, NaN if empty
+     */
+    double percentile(double q) {
+        long total = count();
+        if (total == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(rank, 1)) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(counts.length - 1);
+    }
+
+    private static int index(long v) {
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        // Keep SUB_BITS bits below the leading one bit; row 0 holds the exact small values.
+        int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BITS;
+        int sub = (int) (v >>> shift) - SUB_BUCKETS;
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static double upperBound(int index) {
+        int row = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (row == 0) {
+            return sub;
+        }
+        return (double) ((SUB_BUCKETS + sub + 1L) << (row - 1)) - 1;
+    }
+}
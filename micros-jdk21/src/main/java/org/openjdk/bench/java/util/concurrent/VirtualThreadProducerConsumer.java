@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.concurrent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moves messages from a number of producers to a number of consumers
+ * through a shared queue, with all producers and consumers running either
+ * as platform threads or as virtual threads.
+ *
+ * Each invocation releases one round of {@link #MESSAGES} messages and waits
+ * until the consumers have taken all of them, so the score is the number of
+ * messages handed off per unit of time. Every message carries its enqueue
+ * time; run with {@link HandoffLatencyProfiler} to get percentiles of the
+ * time from enqueue to dequeue.
+ *
+ * {@code ConcurrentLinkedQueue} does not block, its consumers spin and then
+ * yield while the queue is empty.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class VirtualThreadProducerConsumer {
+
+    static final int MESSAGES = 10_000;
+
+    @Param
+    private ThreadKind threadKind;
+
+    @Param
+    private QueueType queueType;
+
+    @Param({"1", "4", "16"})
+    private int producers;
+
+    @Param({"1", "4"})
+    private int consumers;
+
+    /** Capacity of the bounded queues, ABQ and LBQ. */
+    @Param("1024")
+    private int capacity;
+
+    public enum ThreadKind {
+        PLATFORM,
+        VIRTUAL,
+    }
+
+    public enum QueueType {
+        ABQ,
+        LBQ,
+        LTQ,
+        SQ,
+        CLQ,
+    }
+
+    private static final class Message {
+        final long sentAt;
+
+        Message(long sentAt) {
+            this.sentAt = sentAt;
+        }
+    }
+
+    /** Enqueued by each producer after its share of a round. */
+    private static final Message END = new Message(0);
+
+    private Queue<Message> queue;
+    private final Semaphore roundStart = new Semaphore(0);
+    private final Semaphore roundDone = new Semaphore(0);
+    private final AtomicInteger ends = new AtomicInteger();
+    private final List<Thread> threads = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        if (MESSAGES % producers != 0) {
+            throw new IllegalStateException("producers must divide " + MESSAGES);
+        }
+        switch (queueType) {
+            case ABQ:
+                queue = new ArrayBlockingQueue<>(capacity);
+                break;
+            case LBQ:
+                queue = new LinkedBlockingQueue<>(capacity);
+                break;
+            case LTQ:
+                queue = new LinkedTransferQueue<>();
+                break;
+            case SQ:
+                queue = new SynchronousQueue<>();
+                break;
+            case CLQ:
+                queue = new ConcurrentLinkedQueue<>();
+                break;
+            default:
+                throw new RuntimeException();
+        }
+
+        Thread.Builder builder = threadKind == ThreadKind.VIRTUAL
+                ? Thread.ofVirtual()
+                : Thread.ofPlatform().daemon(true);
+        // The histograms of a previous trial are dropped here rather than in
+        // teardown: JMH tears the trial down before the profiler reads the
+        // last iteration.
+        HandoffLatencyProfiler.HISTOGRAMS.clear();
+        for (int i = 0; i < consumers; i++) {
+            LatencyHistogram h = new LatencyHistogram();
+            HandoffLatencyProfiler.HISTOGRAMS.add(h);
+            threads.add(builder.name("consumer-" + i).start(() -> consume(h)));
+        }
+        int share = MESSAGES / producers;
+        for (int i = 0; i < producers; i++) {
+            threads.add(builder.name("producer-" + i).start(() -> produce(share)));
+        }
+    }
+
+    @TearDown
+    public void teardown() throws InterruptedException {
+        for (Thread t : threads) {
+            t.interrupt();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        threads.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void transfer() throws InterruptedException {
+        roundStart.release(producers);
+        roundDone.acquire();
+    }
+
+    private void produce(int share) {
+        try {
+            while (true) {
+                roundStart.acquire();
+                for (int i = 0; i < share; i++) {
+                    put(new Message(System.nanoTime()));
+                }
+                put(END);
+            }
+        } catch (InterruptedException e) {
+            // teardown
+        }
+    }
+
+    private void consume(LatencyHistogram histogram) {
+        try {
+            while (true) {
+                Message m = take();
+                if (m == END) {
+                    if (ends.incrementAndGet() == producers) {
+                        ends.set(0);
+                        roundDone.release();
+                    }
+                } else {
+                    histogram.record(System.nanoTime() - m.sentAt);
+                }
+            }
+        } catch (InterruptedException e) {
+            // teardown
+        }
+    }
+
+    private void put(Message m) throws InterruptedException {
+        if (queue instanceof BlockingQueue<Message> bq) {
+            bq.put(m);
+        } else {
+            queue.offer(m);
+        }
+    }
+
+    private Message take() throws InterruptedException {
+        if (queue instanceof BlockingQueue<Message> bq) {
+            return bq.take();
+        }
+        int spins = 0;
+        Message m;
+        while ((m = queue.poll()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (++spins < 100) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        return m;
+    }
+}
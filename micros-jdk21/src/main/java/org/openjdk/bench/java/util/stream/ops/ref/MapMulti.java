@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.stream.ops.ref;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark for mapMulti() operation, against the flatMap() it replaces.
+ * Every element is replaced by between zero and three copies of itself.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class MapMulti {
+
+    @Param("100000")
+    private int size;
+
+    private static void expand(Long l, Consumer<Long> sink) {
+        for (long i = l & 3; i > 0; i--) {
+            sink.accept(l);
+        }
+    }
+
+    private static Stream<Long> expand(Long l) {
+        switch ((int) (l & 3)) {
+            case 0: return Stream.empty();
+            case 1: return Stream.of(l);
+            case 2: return Stream.of(l, l);
+            default: return Stream.of(l, l, l);
+        }
+    }
+
+    @Benchmark
+    public long seq_mapMulti() {
+        return LongStream.range(0, size)
+                .boxed()
+                .<Long>mapMulti(MapMulti::expand)
+                .mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public long par_mapMulti() {
+        return LongStream.range(0, size).parallel()
+                .boxed()
+                .<Long>mapMulti(MapMulti::expand)
+                .mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public long seq_flatMap() {
+        return LongStream.range(0, size)
+                .boxed()
+                .flatMap(MapMulti::expand)
+                .mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public long par_flatMap() {
+        return LongStream.range(0, size).parallel()
+                .boxed()
+                .flatMap(MapMulti::expand)
+                .mapToLong(Long::longValue).sum();
+    }
+}
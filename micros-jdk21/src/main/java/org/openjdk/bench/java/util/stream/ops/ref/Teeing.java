@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.stream.ops.ref;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Benchmark for Collectors.teeing(), computing the mean of a stream, against
+ * a hand-written single-pass collector and against two passes. The second
+ * pass counts through a collector, as teeing does: {@code count()} on a
+ * sized stream returns the size without traversing it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class Teeing {
+
+    @Param("100000")
+    private int size;
+
+    private static final Collector<Long, ?, Double> TEEING =
+            Collectors.teeing(Collectors.summingLong(Long::longValue), Collectors.counting(),
+                    (sum, count) -> (double) sum / count);
+
+    private static final Collector<Long, long[], Double> HAND_WRITTEN =
+            Collector.of(() -> new long[2],
+                    (a, l) -> { a[0] += l; a[1]++; },
+                    (a, b) -> { a[0] += b[0]; a[1] += b[1]; return a; },
+                    a -> (double) a[0] / a[1]);
+
+    @Benchmark
+    public double seq_teeing() {
+        return LongStream.range(0, size).boxed().collect(TEEING);
+    }
+
+    @Benchmark
+    public double par_teeing() {
+        return LongStream.range(0, size).parallel().boxed().collect(TEEING);
+    }
+
+    @Benchmark
+    public double seq_handWritten() {
+        return LongStream.range(0, size).boxed().collect(HAND_WRITTEN);
+    }
+
+    @Benchmark
+    public double par_handWritten() {
+        return LongStream.range(0, size).parallel().boxed().collect(HAND_WRITTEN);
+    }
+
+    @Benchmark
+    public double seq_twoPasses() {
+        long sum = LongStream.range(0, size).boxed().mapToLong(Long::longValue).sum();
+        long count = LongStream.range(0, size).boxed().collect(Collectors.counting());
+        return (double) sum / count;
+    }
+
+    @Benchmark
+    public double par_twoPasses() {
+        long sum = LongStream.range(0, size).parallel().boxed().mapToLong(Long::longValue).sum();
+        long count = LongStream.range(0, size).parallel().boxed().collect(Collectors.counting());
+        return (double) sum / count;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.stream.ops.ref;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Benchmark for toList() operation, against collecting with
+ * Collectors.toList() and with a hand-written ArrayList collector.
+ * Elements are filtered, so the size is not known up front.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ToList {
+
+    @Param("100000")
+    private int size;
+
+    @Benchmark
+    public List<Long> seq_toList() {
+        return LongStream.range(0, size)
+                .boxed()
+                .filter(l -> (l & 1) == 0)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Long> par_toList() {
+        return LongStream.range(0, size).parallel()
+                .boxed()
+                .filter(l -> (l & 1) == 0)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Long> seq_collectToList() {
+        return LongStream.range(0, size)
+                .boxed()
+                .filter(l -> (l & 1) == 0)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Long> par_collectToList() {
+        return LongStream.range(0, size).parallel()
+                .boxed()
+                .filter(l -> (l & 1) == 0)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Long> seq_collectArrayList() {
+        return LongStream.range(0, size)
+                .boxed()
+                .filter(l -> (l & 1) == 0)
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+
+    @Benchmark
+    public List<Long> par_collectArrayList() {
+        return LongStream.range(0, size).parallel()
+                .boxed()
+                .filter(l -> (l & 1) == 0)
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+}
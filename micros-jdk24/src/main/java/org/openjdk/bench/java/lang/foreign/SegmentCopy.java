@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.lang.foreign;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MemorySegment#copy(MemorySegment, long, MemorySegment, long, long)}
+ * between heap, native and mapped segments, the counterpart of the
+ * {@code java.nio.BulkCopy} benchmark with buffers and {@code Unsafe}.
+ * Every thread copies its own segments; run with {@code ScalingRunner}
+ * from micros-util to see where the memory bandwidth levels off. A copy
+ * needs twice the segment size per thread; the 4 GiB heap holds the 128 MiB
+ * heap segments of up to 8 threads but the 1 GiB ones of a single thread
+ * only, so leave them out of thread sweeps:
+ *
+ * <pre>
+ * java -cp ... org.openjdk.bench.util.scaling.ScalingRunner --threads=1,2,4,8 'java.lang.foreign.SegmentCopy' -p size=1024,1048576,134217728
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 3, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Thread)
+public class SegmentCopy {
+
+    @Param({"1024", "1048576", "134217728", "1073741824"})
+    private long size;
+
+    @Param({"HEAP", "NATIVE", "MAPPED"})
+    private SegmentKind from;
+
+    @Param({"HEAP", "NATIVE", "MAPPED"})
+    private SegmentKind to;
+
+    private Segments segments;
+    private MemorySegment src;
+    private MemorySegment dst;
+
+    @Setup
+    public void setup() throws IOException {
+        segments = new Segments();
+        src = segments.allocate(from, size);
+        dst = segments.allocate(to, size);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        segments.close();
+    }
+
+    @Benchmark
+    public MemorySegment copy() {
+        MemorySegment.copy(src, 0, dst, 0, size);
+        return dst;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.lang.foreign;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Allocates the segments of the bulk copy and fill benchmarks, filled with
+ * a non-zero pattern by the thread that creates them, which places their
+ * pages on that thread's NUMA node. Mapped segments map temporary files in
+ * {@code java.io.tmpdir}.
+ */
+final class Segments implements AutoCloseable {
+
+    private final Arena arena = Arena.ofShared();
+    private final List<Path> files = new ArrayList<>();
+
+    MemorySegment allocate(SegmentKind kind, long size) throws IOException {
+        MemorySegment segment = switch (kind) {
+            case HEAP -> MemorySegment.ofArray(new byte[Math.toIntExact(size)]);
+            case NATIVE -> arena.allocate(size, 64);
+            case MAPPED -> map(size);
+        };
+        segment.fill((byte) 7);
+        return segment;
+    }
+
+    private MemorySegment map(long size) throws IOException {
+        Path file = Files.createTempFile("Segments", ".bin");
+        files.add(file);
+        try (FileChannel fc = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // grows the file to the mapped size
+            return fc.map(FileChannel.MapMode.READ_WRITE, 0, size, arena);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        arena.close();
+        for (Path file : files) {
+            Files.delete(file);
+        }
+        files.clear();
+    }
+}
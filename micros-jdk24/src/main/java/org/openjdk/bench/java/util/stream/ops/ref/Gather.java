@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.stream.ops.ref;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Gatherer;
+import java.util.stream.Gatherers;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Benchmark for gather() operation with the windowFixed(), windowSliding()
+ * and fold() gatherers and a custom one, each against a hand-written
+ * equivalent. These gatherers have no combiner, so in a parallel stream
+ * they still process the elements one at a time, in encounter order; the
+ * hand-written equivalents index into the source list and run fully in
+ * parallel.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class Gather {
+
+    @Param("100000")
+    private int size;
+
+    @Param("16")
+    private int window;
+
+    private List<Long> list;
+
+    @Setup
+    public void setup() {
+        list = LongStream.range(0, size).boxed().toList();
+    }
+
+    private static long sum(List<Long> window) {
+        long sum = 0;
+        for (Long l : window) {
+            sum += l;
+        }
+        return sum;
+    }
+
+    /**
+     * Drops every element equal to the one before it.
+     */
+    static Gatherer<Long, ?, Long> dedupConsecutive() {
+        Gatherer.Integrator.Greedy<long[], Long, Long> integrator = (state, element, downstream) -> {
+            if (state[0] != 0 && state[1] == element) {
+                return true;
+            }
+            state[0] = 1;
+            state[1] = element;
+            return downstream.push(element);
+        };
+        return Gatherer.ofSequential(() -> new long[2], integrator);
+    }
+
+    @Benchmark
+    public long seq_windowFixed() {
+        return list.stream()
+                .gather(Gatherers.windowFixed(window))
+                .mapToLong(Gather::sum).sum();
+    }
+
+    @Benchmark
+    public long par_windowFixed() {
+        return list.parallelStream()
+                .gather(Gatherers.windowFixed(window))
+                .mapToLong(Gather::sum).sum();
+    }
+
+    @Benchmark
+    public long seq_windowFixedHand() {
+        return IntStream.range(0, (size + window - 1) / window)
+                .mapToLong(i -> sum(list.subList(i * window, Math.min(size, (i + 1) * window)))).sum();
+    }
+
+    @Benchmark
+    public long par_windowFixedHand() {
+        return IntStream.range(0, (size + window - 1) / window).parallel()
+                .mapToLong(i -> sum(list.subList(i * window, Math.min(size, (i + 1) * window)))).sum();
+    }
+
+    @Benchmark
+    public long seq_windowSliding() {
+        return list.stream()
+                .gather(Gatherers.windowSliding(window))
+                .mapToLong(Gather::sum).sum();
+    }
+
+    @Benchmark
+    public long par_windowSliding() {
+        return list.parallelStream()
+                .gather(Gatherers.windowSliding(window))
+                .mapToLong(Gather::sum).sum();
+    }
+
+    @Benchmark
+    public long seq_windowSlidingHand() {
+        return IntStream.range(0, Math.max(1, size - window + 1))
+                .mapToLong(i -> sum(list.subList(i, Math.min(size, i + window)))).sum();
+    }
+
+    @Benchmark
+    public long par_windowSlidingHand() {
+        return IntStream.range(0, Math.max(1, size - window + 1)).parallel()
+                .mapToLong(i -> sum(list.subList(i, Math.min(size, i + window)))).sum();
+    }
+
+    @Benchmark
+    public long seq_fold() {
+        return list.stream()
+                .gather(Gatherers.fold(() -> 0L, (acc, l) -> acc + l))
+                .findFirst().orElseThrow();
+    }
+
+    @Benchmark
+    public long par_fold() {
+        return list.parallelStream()
+                .gather(Gatherers.fold(() -> 0L, (acc, l) -> acc + l))
+                .findFirst().orElseThrow();
+    }
+
+    @Benchmark
+    public long seq_reduce() {
+        return list.stream().reduce(0L, Long::sum);
+    }
+
+    @Benchmark
+    public long par_reduce() {
+        return list.parallelStream().reduce(0L, Long::sum);
+    }
+
+    @Benchmark
+    public long seq_dedup() {
+        return list.stream()
+                .map(l -> l >> 2)
+                .gather(dedupConsecutive())
+                .mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public long par_dedup() {
+        return list.parallelStream()
+                .map(l -> l >> 2)
+                .gather(dedupConsecutive())
+                .mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public long seq_dedupHand() {
+        return IntStream.range(0, size)
+                .filter(i -> i == 0 || (list.get(i) >> 2) != (list.get(i - 1) >> 2))
+                .mapToLong(i -> list.get(i) >> 2).sum();
+    }
+
+    @Benchmark
+    public long par_dedupHand() {
+        return IntStream.range(0, size).parallel()
+                .filter(i -> i == 0 || (list.get(i) >> 2) != (list.get(i - 1) >> 2))
+                .mapToLong(i -> list.get(i) >> 2).sum();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.stream.ops.ref;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Gatherers;
+import java.util.stream.LongStream;
+
+/**
+ * Benchmark for the mapConcurrent() gatherer, mapping every element with a
+ * call that blocks for {@code delay} microseconds, as a remote call would.
+ * It is compared with a plain map() and with submitting the calls to a
+ * virtual thread per task executor by hand, with the same concurrency
+ * limit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class MapConcurrent {
+
+    @Param("1000")
+    private int size;
+
+    @Param({"16", "256"})
+    private int maxConcurrency;
+
+    @Param("100")
+    private int delay;
+
+    private List<Long> list;
+
+    @Setup
+    public void setup() {
+        list = LongStream.range(0, size).boxed().toList();
+    }
+
+    private Long call(Long l) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(delay));
+        return l * 2;
+    }
+
+    @Benchmark
+    public long seq_map() {
+        return list.stream().map(this::call).mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public long seq_mapConcurrent() {
+        return list.stream()
+                .gather(Gatherers.mapConcurrent(maxConcurrency, this::call))
+                .mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public long par_mapConcurrent() {
+        return list.parallelStream()
+                .gather(Gatherers.mapConcurrent(maxConcurrency, this::call))
+                .mapToLong(Long::longValue).sum();
+    }
+
+    @Benchmark
+    public long executor() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Semaphore permits = new Semaphore(maxConcurrency);
+            List<Future<Long>> futures = new ArrayList<>(size);
+            for (Long l : list) {
+                permits.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        return call(l);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            long sum = 0;
+            for (Future<Long> f : futures) {
+                sum += f.get();
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.net;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams a file to a loopback socket, either zero-copy with
+ * {@link FileChannel#transferTo} (sendfile on Linux) or with a read/write
+ * loop through a direct or a heap buffer of {@code chunkSize} bytes. Each
+ * operation sends the whole file; a thread on the other end discards what
+ * it receives.
+ *
+ * Besides operations per second, every benchmark reports the transfer rate
+ * as {@code megabytes}, in MB/s although JMH labels it ops/s. Run with
+ * {@code -prof org.openjdk.bench.java.net.TransferRateProfiler} to also get
+ * the process CPU time per byte, which includes the kernel time of both ends
+ * of the connection. For cycles per byte, divide the cycles/op of
+ * {@code -prof perfnorm} by the file size.
+ *
+ * This test is known to depend heavily on the kernel and platform.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+@State(Scope.Thread)
+public class FileTransfer {
+
+    /** Megabytes sent by a benchmark thread, reported per second. */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Transferred {
+        public long megabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            megabytes = 0;
+        }
+    }
+
+    @Param({"1", "16", "256"})
+    private int fileSizeMb;
+
+    @Param({"8192", "65536", "1048576"})
+    private int chunkSize;
+
+    private File f;
+    private long size;
+    private FileChannel fc;
+    private ServerSocketChannel ssc;
+    private SocketChannel s1, s2;
+    private DrainThread dt;
+    private ByteBuffer direct;
+    private ByteBuffer heap;
+
+    @Setup(Level.Trial)
+    public void beforeRun() throws IOException {
+        f = File.createTempFile("FileTransferBench", ".bin");
+        size = (long) fileSizeMb << 20;
+        byte[] block = new byte[1 << 20];
+        for (int i = 0; i < block.length; i++) {
+            block[i] = (byte) i;
+        }
+        try (FileOutputStream fos = new FileOutputStream(f)) {
+            for (int i = 0; i < fileSizeMb; i++) {
+                fos.write(block);
+            }
+        }
+        fc = FileChannel.open(f.toPath(), StandardOpenOption.READ);
+
+        ssc = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        s1 = SocketChannel.open(ssc.getLocalAddress());
+        s2 = ssc.accept();
+        dt = new DrainThread(s2);
+        dt.start();
+
+        direct = ByteBuffer.allocateDirect(chunkSize);
+        heap = ByteBuffer.allocate(chunkSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void afterRun() throws IOException, InterruptedException {
+        s1.close();
+        s2.close();
+        ssc.close();
+        dt.join();
+        fc.close();
+        f.delete();
+    }
+
+    @Benchmark
+    public long transferTo(Transferred transferred) throws IOException {
+        long pos = 0;
+        while (pos < size) {
+            pos += fc.transferTo(pos, Math.min(chunkSize, size - pos), s1);
+        }
+        transferred.megabytes += fileSizeMb;
+        return pos;
+    }
+
+    @Benchmark
+    public long directBuffer(Transferred transferred) throws IOException {
+        transferred.megabytes += fileSizeMb;
+        return copy(direct);
+    }
+
+    @Benchmark
+    public long heapBuffer(Transferred transferred) throws IOException {
+        transferred.megabytes += fileSizeMb;
+        return copy(heap);
+    }
+
+    private long copy(ByteBuffer bb) throws IOException {
+        // Through Buffer, whose methods are not covariant on JDK 8.
+        Buffer b = bb;
+        long pos = 0;
+        while (pos < size) {
+            b.clear();
+            int n = fc.read(bb, pos);
+            b.flip();
+            while (bb.hasRemaining()) {
+                s1.write(bb);
+            }
+            pos += n;
+        }
+        return pos;
+    }
+
+    static class DrainThread extends Thread {
+        private final SocketChannel sc;
+
+        DrainThread(SocketChannel sc) {
+            this.sc = sc;
+            setDaemon(true);
+        }
+
+        public void run() {
+            try {
+                ByteBuffer bb = ByteBuffer.allocateDirect(1 << 20);
+                while (sc.read(bb) > 0) {
+                    ((Buffer) bb).clear();
+                }
+            } catch (ClosedChannelException ex) {
+                // shutdown time
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.net;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.Defaults;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports the CPU time per byte of {@link FileTransfer}: the process CPU
+ * time of the iteration divided by the bytes transferred, which come from
+ * the {@code megabytes} rate the benchmark reports itself.
+ *
+ * <pre>
+ * -prof org.openjdk.bench.java.net.TransferRateProfiler
+ * </pre>
+ *
+ * CPU time is that of the whole benchmark process, user and system, as
+ * reported by {@code com.sun.management.OperatingSystemMXBean}.
+ */
+public class TransferRateProfiler implements InternalProfiler {
+
+    private long startCpu;
+    private long startTime;
+
+    @Override
+    public String getDescription() {
+        return "File transfer CPU ns per byte";
+    }
+
+    private static long processCpuTime() {
+        java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+        }
+        return -1;
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        startCpu = processCpuTime();
+        startTime = System.nanoTime();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+                                                       IterationParams iterationParams,
+                                                       IterationResult result) {
+        long time = System.nanoTime() - startTime;
+        long cpu = processCpuTime() - startCpu;
+        Result rate = result.getSecondaryResults().get("megabytes");
+        if (startCpu < 0 || rate == null || !(rate.getScore() > 0)) {
+            return Collections.emptyList();
+        }
+        // The rate is in MB per output time unit; convert it to bytes per ns.
+        TimeUnit unit = benchmarkParams.getTimeUnit();
+        double bytesPerNs = rate.getScore() * (1 << 20) / unit.toNanos(1);
+        return Collections.singletonList(new ScalarResult(Defaults.PREFIX + "transfer.cpu",
+                cpu / (bytesPerNs * time), "ns/byte", AggregationPolicy.AVG));
+    }
+}
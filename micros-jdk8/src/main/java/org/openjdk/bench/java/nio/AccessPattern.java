@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.nio;
+
+import java.util.Random;
+
+/**
+ * Order in which the file benchmarks visit the blocks of a file. Both
+ * patterns touch every block once per pass, so they move the same amount of
+ * data and differ only in locality.
+ */
+public enum AccessPattern {
+    SEQUENTIAL,
+    RANDOM;
+
+    /**
+     * @return the offsets of all {@code blockSize} blocks of a file of
+     *         {@code fileSize} bytes, in visiting order
+     */
+    long[] offsets(long fileSize, int blockSize) {
+        long blocks = fileSize / blockSize;
+        if (blocks == 0 || blocks > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Cannot split " + fileSize + " bytes into blocks of " + blockSize);
+        }
+        long[] offsets = new long[(int) blocks];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = (long) i * blockSize;
+        }
+        if (this == RANDOM) {
+            Random random = new Random(42);
+            for (int i = offsets.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                long t = offsets[i];
+                offsets[i] = offsets[j];
+                offsets[j] = t;
+            }
+        }
+        return offsets;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.nio;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code System.arraycopy} and {@code Arrays.fill} of large byte arrays,
+ * the heap counterparts of {@link BulkCopy} and {@link BulkFill}. The
+ * {@link Numa} variant runs with {@code -XX:+UseNUMA}, which makes the
+ * parallel collector allocate from the NUMA node of the allocating
+ * thread; it only differs on machines with more than one node. As with
+ * {@link BulkCopy}, the 4 GiB heap holds the 128 MiB arrays of up to 8
+ * threads but the 1 GiB arrays of a single thread only.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 3, jvmArgsAppend = {"-Xmx4g", "-XX:+UseParallelGC"})
+@State(Scope.Thread)
+public class ArrayBulk {
+
+    @Param({"1024", "1048576", "134217728", "1073741824"})
+    private int size;
+
+    private byte[] src;
+    private byte[] dst;
+
+    @Setup
+    public void setup() {
+        src = new byte[size];
+        dst = new byte[size];
+        Arrays.fill(src, (byte) 7);
+    }
+
+    @Benchmark
+    public byte[] arraycopy() {
+        System.arraycopy(src, 0, dst, 0, size);
+        return dst;
+    }
+
+    @Benchmark
+    public byte[] fill() {
+        Arrays.fill(dst, (byte) 1);
+        return dst;
+    }
+
+    @Fork(value = 3, jvmArgsAppend = {"-Xmx4g", "-XX:+UseParallelGC", "-XX:+UseNUMA"})
+    public static class Numa extends ArrayBulk {
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.nio;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies a block of memory between heap, direct and mapped memory, with
+ * {@link ByteBuffer#put(ByteBuffer)} and {@code Unsafe.copyMemory}. See
+ * {@link ArrayBulk} for {@code System.arraycopy}. Every thread copies its
+ * own blocks; run with {@code ScalingRunner} from micros-util to see where
+ * the memory bandwidth levels off:
+ *
+ * <pre>
+ * java -cp ... org.openjdk.bench.util.scaling.ScalingRunner --threads=1,2,4,8 'java.nio.BulkCopy' -p size=1024,1048576,134217728
+ * </pre>
+ *
+ * A copy needs twice the block size per thread. The 4 GiB heap and direct
+ * memory limits hold the 128 MiB blocks of up to 8 threads, but the 1 GiB
+ * blocks of a single thread only, so leave them out of thread sweeps.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 3, jvmArgsAppend = {"-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+@State(Scope.Thread)
+public class BulkCopy {
+
+    @Param({"1024", "1048576", "134217728", "1073741824"})
+    private int size;
+
+    @Param({"HEAP", "DIRECT", "MAPPED"})
+    private MemoryKind from;
+
+    @Param({"HEAP", "DIRECT", "MAPPED"})
+    private MemoryKind to;
+
+    private MemoryRegion src;
+    private MemoryRegion dst;
+
+    @Setup
+    public void setup() throws Throwable {
+        src = new MemoryRegion(from, size);
+        dst = new MemoryRegion(to, size);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        src.close();
+        dst.close();
+    }
+
+    @Benchmark
+    public ByteBuffer bufferPut() {
+        ((Buffer) src.buffer).clear();
+        ((Buffer) dst.buffer).clear();
+        return dst.buffer.put(src.buffer);
+    }
+
+    @Benchmark
+    public void unsafeCopy() throws Throwable {
+        MemoryRegion.COPY_MEMORY.invokeExact(src.base, src.offset, dst.base, dst.offset, (long) size);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.nio;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills a block of heap, direct or mapped memory, with
+ * {@code Unsafe.setMemory} and with a loop of absolute
+ * {@link ByteBuffer#putLong(int, long)}, as there is no bulk fill for
+ * buffers. See {@link ArrayBulk} for {@code Arrays.fill} and
+ * {@link BulkCopy} for running with more threads; the 1 GiB blocks fit
+ * the 4 GiB limits on up to 2 threads, the 128 MiB blocks on up to 16.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 3, jvmArgsAppend = {"-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+@State(Scope.Thread)
+public class BulkFill {
+
+    @Param({"1024", "1048576", "134217728", "1073741824"})
+    private int size;
+
+    @Param({"HEAP", "DIRECT", "MAPPED"})
+    private MemoryKind kind;
+
+    private MemoryRegion region;
+
+    @Setup
+    public void setup() throws Throwable {
+        region = new MemoryRegion(kind, size);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        region.close();
+    }
+
+    @Benchmark
+    public void unsafeSetMemory() throws Throwable {
+        MemoryRegion.SET_MEMORY.invokeExact(region.base, region.offset, (long) size, (byte) 1);
+    }
+
+    @Benchmark
+    public ByteBuffer putLongs() {
+        ByteBuffer b = region.buffer;
+        for (int i = 0; i < size; i += 8) {
+            b.putLong(i, 0x0101010101010101L);
+        }
+        return b;
+    }
+}
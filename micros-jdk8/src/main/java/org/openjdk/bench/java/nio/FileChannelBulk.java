@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.nio;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Positional block reads and writes through {@link FileChannel}, i.e.
+ * pread/pwrite, into heap or direct buffers. Each operation moves one block,
+ * so bytes per second are the score times {@code blockSize}. Compare with
+ * {@link MappedFileRead} and {@link MappedFileWrite}, which access the same
+ * files through a mapping.
+ *
+ * Use a {@code fileSizeMb} larger than the page cache to measure the device
+ * rather than memory copies, and {@code -Djava.io.tmpdir} to choose the
+ * device. This benchmark depends heavily on the disk subsystem.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+@State(Scope.Thread)
+public class FileChannelBulk {
+
+    @Param({"64", "4096"})
+    private long fileSizeMb;
+
+    @Param({"4096", "65536", "1048576", "16777216"})
+    private int blockSize;
+
+    @Param
+    private AccessPattern access;
+
+    @Param({"HEAP", "DIRECT"})
+    private String buffer;
+
+    private Path file;
+    private FileChannel fc;
+    private ByteBuffer bb;
+    private long[] offsets;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void beforeRun() throws IOException {
+        long fileSize = fileSizeMb << 20;
+        file = TestFiles.create("FileChannelBulk", fileSize);
+        fc = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        offsets = access.offsets(fileSize, blockSize);
+        bb = buffer.equals("DIRECT") ? ByteBuffer.allocateDirect(blockSize) : ByteBuffer.allocate(blockSize);
+        while (bb.hasRemaining()) {
+            bb.put((byte) bb.position());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void afterRun() throws IOException {
+        fc.close();
+        Files.delete(file);
+    }
+
+    private long nextOffset() {
+        long offset = offsets[next];
+        next = next + 1 == offsets.length ? 0 : next + 1;
+        return offset;
+    }
+
+    @Benchmark
+    public ByteBuffer read() throws IOException {
+        long offset = nextOffset();
+        ((Buffer) bb).clear();
+        while (bb.hasRemaining()) {
+            if (fc.read(bb, offset + bb.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return bb;
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        long offset = nextOffset();
+        ((Buffer) bb).clear();
+        while (bb.hasRemaining()) {
+            fc.write(bb, offset + bb.position());
+        }
+    }
+
+    /**
+     * Write followed by fdatasync, for comparison with
+     * {@link MappedFileWrite#writeAndForce}.
+     */
+    @Benchmark
+    public void writeAndForce() throws IOException {
+        write();
+        fc.force(false);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.nio;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file mapped as consecutive segments of at most {@value #SEGMENT_SIZE}
+ * bytes, since a single {@link MappedByteBuffer} cannot exceed 2 GB. Blocks
+ * whose size divides the segment size never straddle two segments.
+ */
+final class MappedFile implements AutoCloseable {
+
+    static final int SEGMENT_SIZE = 1 << 30;
+
+    private final FileChannel fc;
+    private final MappedByteBuffer[] segments;
+
+    /**
+     * @param mode one of {@code READ_ONLY}, {@code READ_WRITE} or {@code PRIVATE}
+     */
+    MappedFile(Path file, String mode) throws IOException {
+        FileChannel.MapMode mapMode;
+        switch (mode) {
+            case "READ_ONLY":
+                mapMode = FileChannel.MapMode.READ_ONLY;
+                fc = FileChannel.open(file, StandardOpenOption.READ);
+                break;
+            case "READ_WRITE":
+                mapMode = FileChannel.MapMode.READ_WRITE;
+                fc = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                break;
+            case "PRIVATE":
+                // Copy-on-write, but the channel must still be writable.
+                mapMode = FileChannel.MapMode.PRIVATE;
+                fc = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown map mode: " + mode);
+        }
+        long size = fc.size();
+        segments = new MappedByteBuffer[(int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+        for (int i = 0; i < segments.length; i++) {
+            long position = (long) i * SEGMENT_SIZE;
+            segments[i] = fc.map(mapMode, position, Math.min(SEGMENT_SIZE, size - position));
+        }
+    }
+
+    /**
+     * @return the segment holding the block, with its position and limit set
+     *         to the block's bounds
+     */
+    MappedByteBuffer block(long offset, int length) {
+        MappedByteBuffer segment = segments[(int) (offset / SEGMENT_SIZE)];
+        int start = (int) (offset % SEGMENT_SIZE);
+        // Through Buffer, whose methods are not covariant on JDK 8.
+        Buffer b = segment;
+        b.clear();
+        b.position(start);
+        b.limit(start + length);
+        return segment;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // The mappings stay valid until the buffers are collected.
+        fc.close();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.nio;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Block reads from a file mapped with {@code FileChannel.map}, the mmap
+ * counterpart of {@link FileChannelBulk#read}. {@code read} copies each block
+ * into a heap array; {@code scan} reads it in place, one long at a time,
+ * which a mapping allows without any copy. The file is mapped once per
+ * trial, so page faults rather than system calls dominate cold blocks.
+ *
+ * Use a {@code fileSizeMb} larger than the page cache to measure the device
+ * rather than memory, and {@code -Djava.io.tmpdir} to choose the device.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+@State(Scope.Thread)
+public class MappedFileRead {
+
+    @Param({"64", "4096"})
+    private long fileSizeMb;
+
+    @Param({"4096", "65536", "1048576", "16777216"})
+    private int blockSize;
+
+    @Param
+    private AccessPattern access;
+
+    @Param({"READ_ONLY", "READ_WRITE", "PRIVATE"})
+    private String mapMode;
+
+    private Path file;
+    private MappedFile mapped;
+    private byte[] dst;
+    private long[] offsets;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void beforeRun() throws IOException {
+        long fileSize = fileSizeMb << 20;
+        file = TestFiles.create("MappedFileRead", fileSize);
+        mapped = new MappedFile(file, mapMode);
+        offsets = access.offsets(fileSize, blockSize);
+        dst = new byte[blockSize];
+    }
+
+    @TearDown(Level.Trial)
+    public void afterRun() throws IOException {
+        mapped.close();
+        mapped = null;
+        Files.delete(file);
+    }
+
+    private MappedByteBuffer nextBlock() {
+        long offset = offsets[next];
+        next = next + 1 == offsets.length ? 0 : next + 1;
+        return mapped.block(offset, blockSize);
+    }
+
+    @Benchmark
+    public byte[] read() {
+        nextBlock().get(dst, 0, blockSize);
+        return dst;
+    }
+
+    @Benchmark
+    public long scan() {
+        MappedByteBuffer block = nextBlock();
+        long sum = 0;
+        for (int i = block.position(), end = block.limit(); i < end; i += Long.BYTES) {
+            sum += block.getLong(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.nio;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Block writes into a mapped file, the mmap counterpart of
+ * {@link FileChannelBulk#write}. A {@code PRIVATE} mapping writes to private
+ * copies of the pages and never reaches the file.
+ *
+ * {@code writeAndForce} calls {@link MappedByteBuffer#force()} after every
+ * block. Before JDK 13 there is no ranged force, so it syncs the whole
+ * segment holding the block (see {@link MappedFile}), which costs more with
+ * larger files even though only one block is dirty.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+@State(Scope.Thread)
+public class MappedFileWrite {
+
+    @Param({"64", "4096"})
+    private long fileSizeMb;
+
+    @Param({"4096", "65536", "1048576", "16777216"})
+    private int blockSize;
+
+    @Param
+    private AccessPattern access;
+
+    @Param({"READ_WRITE", "PRIVATE"})
+    private String mapMode;
+
+    private Path file;
+    private MappedFile mapped;
+    private byte[] src;
+    private long[] offsets;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void beforeRun() throws IOException {
+        long fileSize = fileSizeMb << 20;
+        file = TestFiles.create("MappedFileWrite", fileSize);
+        mapped = new MappedFile(file, mapMode);
+        offsets = access.offsets(fileSize, blockSize);
+        src = new byte[blockSize];
+        for (int i = 0; i < blockSize; i++) {
+            src[i] = (byte) i;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void afterRun() throws IOException {
+        mapped.close();
+        mapped = null;
+        Files.delete(file);
+    }
+
+    private MappedByteBuffer nextBlock() {
+        long offset = offsets[next];
+        next = next + 1 == offsets.length ? 0 : next + 1;
+        return mapped.block(offset, blockSize);
+    }
+
+    @Benchmark
+    public void write() {
+        nextBlock().put(src, 0, blockSize);
+    }
+
+    @Benchmark
+    public void writeAndForce() {
+        MappedByteBuffer block = nextBlock();
+        block.put(src, 0, blockSize);
+        block.force();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.nio;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A block of memory for the bulk copy and fill benchmarks, as a
+ * {@link ByteBuffer} and as the base and offset that {@code Unsafe} takes:
+ * the array and its base offset for heap memory, {@code null} and the
+ * address for direct and mapped memory. The memory is touched first by the
+ * thread that creates the region, which places its pages on that thread's
+ * NUMA node.
+ * <p>
+ * {@code sun.misc.Unsafe} is looked up by name and called through method
+ * handles bound to its instance, which keeps javac from warning about
+ * internal proprietary API; C2 inlines the constant handles.
+ */
+final class MemoryRegion implements AutoCloseable {
+
+    /** {@code void copyMemory(Object srcBase, long srcOffset, Object destBase, long destOffset, long bytes)} */
+    static final MethodHandle COPY_MEMORY;
+    /** {@code void setMemory(Object base, long offset, long bytes, byte value)} */
+    static final MethodHandle SET_MEMORY;
+    private static final MethodHandle GET_LONG;
+    private static final long ARRAY_BYTE_BASE_OFFSET;
+    private static final long ADDRESS;
+
+    static {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field f = unsafeClass.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            Object unsafe = f.get(null);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            COPY_MEMORY = lookup.unreflect(unsafeClass.getMethod("copyMemory",
+                    Object.class, long.class, Object.class, long.class, long.class)).bindTo(unsafe);
+            SET_MEMORY = lookup.unreflect(unsafeClass.getMethod("setMemory",
+                    Object.class, long.class, long.class, byte.class)).bindTo(unsafe);
+            GET_LONG = lookup.unreflect(unsafeClass.getMethod("getLong",
+                    Object.class, long.class)).bindTo(unsafe);
+            ARRAY_BYTE_BASE_OFFSET = (int) unsafeClass.getMethod("arrayBaseOffset", Class.class)
+                    .invoke(unsafe, byte[].class);
+            ADDRESS = (long) unsafeClass.getMethod("objectFieldOffset", Field.class)
+                    .invoke(unsafe, Buffer.class.getDeclaredField("address"));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    final ByteBuffer buffer;
+    final Object base;
+    final long offset;
+    private final Path file;
+
+    MemoryRegion(MemoryKind kind, int size) throws Throwable {
+        switch (kind) {
+            case HEAP:
+                buffer = ByteBuffer.wrap(new byte[size]);
+                file = null;
+                break;
+            case DIRECT:
+                buffer = ByteBuffer.allocateDirect(size);
+                file = null;
+                break;
+            case MAPPED:
+                file = TestFiles.create("MemoryRegion", size);
+                try (FileChannel fc = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    buffer = fc.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown kind: " + kind);
+        }
+        if (buffer.hasArray()) {
+            base = buffer.array();
+            offset = ARRAY_BYTE_BASE_OFFSET;
+        } else {
+            base = null;
+            offset = (long) GET_LONG.invokeExact((Object) buffer, ADDRESS);
+        }
+        SET_MEMORY.invokeExact(base, offset, (long) size, (byte) 7);
+    }
+
+    @Override
+    public void close() throws IOException {
+        // The mapping stays valid until the buffer is collected.
+        if (file != null) {
+            Files.delete(file);
+        }
+    }
+}
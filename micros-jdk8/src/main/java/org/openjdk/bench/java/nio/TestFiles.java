@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.nio;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Creates the data files for the file I/O benchmarks. Files go to
+ * {@code java.io.tmpdir}, which can be pointed at the device under test.
+ */
+final class TestFiles {
+
+    private static final int CHUNK = 1 << 20;
+
+    private TestFiles() {
+    }
+
+    /**
+     * Creates a file of {@code size} bytes filled with a non-zero pattern, so
+     * that file systems cannot keep it sparse or compress it away.
+     */
+    static Path create(String prefix, long size) throws IOException {
+        Path file = Files.createTempFile(prefix, ".bin");
+        ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK);
+        for (int i = 0; i < CHUNK; i++) {
+            chunk.put(i, (byte) (i * 31 + 7));
+        }
+        try (FileChannel fc = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            long written = 0;
+            while (written < size) {
+                ((Buffer) chunk).clear();
+                ((Buffer) chunk).limit((int) Math.min(CHUNK, size - written));
+                written += fc.write(chunk, written);
+            }
+        }
+        return file;
+    }
+}
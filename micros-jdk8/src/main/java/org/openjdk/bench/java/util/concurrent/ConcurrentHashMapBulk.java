@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.concurrent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk operations of ConcurrentHashMap at different parallelism thresholds.
+ * A threshold of 1 splits the traversal as far as the common pool allows,
+ * {@code Long.MAX_VALUE} runs it sequentially in the calling thread.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ConcurrentHashMapBulk {
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"1", "1000", "100000", "9223372036854775807"})
+    private long parallelismThreshold;
+
+    private ConcurrentHashMap<Integer, Integer> map;
+
+    @Setup
+    public void setup() {
+        map = new ConcurrentHashMap<>();
+        for (Integer k : ConcurrentHashMapContention.keys(size)) {
+            map.put(k, k);
+        }
+    }
+
+    @Benchmark
+    public void forEach() {
+        map.forEach(parallelismThreshold, (k, v) -> {
+            if (k.intValue() != v.intValue()) {
+                throw new Error("bad mapping: " + v + " to " + k);
+            }
+        });
+    }
+
+    @Benchmark
+    public long reduceValuesToLong() {
+        return map.reduceValuesToLong(parallelismThreshold, Integer::longValue, 0L, Long::sum);
+    }
+
+    @Benchmark
+    public Integer reduceKeys() {
+        return map.reduceKeys(parallelismThreshold, (a, b) -> a > b ? a : b);
+    }
+
+    @Benchmark
+    public Integer search() {
+        // No mapping matches, so the whole map is traversed.
+        return map.search(parallelismThreshold, (k, v) -> k.intValue() != v.intValue() ? k : null);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.concurrent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Cache and counter idioms on a shared ConcurrentHashMap under skewed key
+ * distributions: {@code computeIfAbsent} on present keys (the cache hit
+ * path), {@code merge} of counts, and a frequency map of LongAdders.
+ *
+ * Thread counts are swept by the nested classes, as in
+ * {@link ConcurrentHashMapContention}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public abstract class ConcurrentHashMapCompute {
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param
+    private KeyDistribution distribution;
+
+    private ConcurrentHashMap<Integer, Integer> cache;
+    private ConcurrentHashMap<Integer, Integer> counts;
+    private ConcurrentHashMap<Integer, LongAdder> adders;
+    private Integer[] keys;
+    private int[] keySequence;
+
+    private static final Integer ONE = 1;
+    private static final Function<Integer, Integer> IDENTITY = k -> k;
+    private static final Function<Integer, LongAdder> NEW_ADDER = k -> new LongAdder();
+
+    /**
+     * Fills only the map the running benchmark uses. At the largest size,
+     * three maps of ten million entries would crowd the heap.
+     */
+    @Setup
+    public void setup(BenchmarkParams params) {
+        keys = ConcurrentHashMapContention.keys(size);
+        String benchmark = params.getBenchmark();
+        switch (benchmark.substring(benchmark.lastIndexOf('.') + 1)) {
+            case "computeIfAbsent":
+                cache = fill(keys, IDENTITY);
+                break;
+            case "merge":
+                counts = fill(keys, k -> 0);
+                break;
+            case "longAdder":
+                adders = fill(keys, NEW_ADDER);
+                break;
+            default:
+                throw new IllegalStateException("No map for " + benchmark);
+        }
+        keySequence = distribution.indices(size, ConcurrentHashMapContention.SEQUENCE_LENGTH, 42);
+    }
+
+    private static <V> ConcurrentHashMap<Integer, V> fill(Integer[] keys, Function<Integer, V> value) {
+        ConcurrentHashMap<Integer, V> map = new ConcurrentHashMap<>();
+        for (Integer k : keys) {
+            map.put(k, value.apply(k));
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Integer computeIfAbsent(ConcurrentHashMapContention.Cursor c) {
+        return cache.computeIfAbsent(keys[keySequence[c.next()]], IDENTITY);
+    }
+
+    @Benchmark
+    public Integer merge(ConcurrentHashMapContention.Cursor c) {
+        return counts.merge(keys[keySequence[c.next()]], ONE, Integer::sum);
+    }
+
+    @Benchmark
+    public void longAdder(ConcurrentHashMapContention.Cursor c) {
+        adders.computeIfAbsent(keys[keySequence[c.next()]], NEW_ADDER).increment();
+    }
+
+    @Threads(1)
+    public static class T1 extends ConcurrentHashMapCompute {
+    }
+
+    @Threads(2)
+    public static class T2 extends ConcurrentHashMapCompute {
+    }
+
+    @Threads(4)
+    public static class T4 extends ConcurrentHashMapCompute {
+    }
+
+    @Threads(8)
+    public static class T8 extends ConcurrentHashMapCompute {
+    }
+
+    @Threads(16)
+    public static class T16 extends ConcurrentHashMapCompute {
+    }
+
+    @Threads(32)
+    public static class T32 extends ConcurrentHashMapCompute {
+    }
+
+    @Threads(Threads.MAX)
+    public static class TMax extends ConcurrentHashMapCompute {
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.concurrent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Contended mix of get, put and compute on a shared ConcurrentHashMap.
+ *
+ * Unlike {@link Maps}, keys are drawn from a uniform, hotspot or Zipfian
+ * distribution (see {@link KeyDistribution}), so skewed workloads pile up on
+ * the locks of a few bins. The map holds all keys up front and writes
+ * replace existing mappings, so the map does not grow or shrink during the
+ * measurement.
+ *
+ * The nested classes run the same workload with different thread counts,
+ * e.g. {@code ConcurrentHashMapContention.T8.mixed}; {@code TMax} uses one
+ * thread per available CPU.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public abstract class ConcurrentHashMapContention {
+
+    /** Length of the precomputed key and operation sequences, a power of two. */
+    static final int SEQUENCE_LENGTH = 1 << 20;
+
+    static final byte READ = 0;
+    static final byte WRITE = 1;
+    static final byte COMPUTE = 2;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    @Param
+    private KeyDistribution distribution;
+
+    /** Percentages of get, put and compute operations. */
+    @Param({"100/0/0", "90/10/0", "90/0/10", "50/25/25"})
+    private String mix;
+
+    private ConcurrentHashMap<Integer, Integer> map;
+    private Integer[] keys;
+    private int[] keySequence;
+    private byte[] opSequence;
+
+    private static final BiFunction<Integer, Integer, Integer> INCREMENT = (k, v) -> v == null ? 1 : v + 1;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int pos = ThreadLocalRandom.current().nextInt(SEQUENCE_LENGTH);
+
+        int next() {
+            return pos = (pos + 1) & (SEQUENCE_LENGTH - 1);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        keys = keys(size);
+        map = new ConcurrentHashMap<>();
+        for (Integer k : keys) {
+            map.put(k, k);
+        }
+        keySequence = distribution.indices(size, SEQUENCE_LENGTH, 42);
+
+        String[] parts = mix.split("/");
+        int read = Integer.parseInt(parts[0]);
+        int write = Integer.parseInt(parts[1]);
+        int compute = Integer.parseInt(parts[2]);
+        if (read + write + compute != 100) {
+            throw new IllegalArgumentException("mix must add up to 100: " + mix);
+        }
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        opSequence = new byte[SEQUENCE_LENGTH];
+        for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+            int r = rnd.nextInt(100);
+            opSequence[i] = r < read ? READ : r < read + write ? WRITE : COMPUTE;
+        }
+    }
+
+    /**
+     * @return {@code size} distinct keys, scattered over the int range so that
+     *         neighboring indices do not end up in neighboring bins
+     */
+    static Integer[] keys(int size) {
+        Integer[] keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i * 0x9E3779B9;
+        }
+        return keys;
+    }
+
+    @Benchmark
+    public Integer mixed(Cursor c) {
+        int p = c.next();
+        Integer k = keys[keySequence[p]];
+        switch (opSequence[p]) {
+            case READ:
+                return map.get(k);
+            case WRITE:
+                return map.put(k, k);
+            default:
+                return map.compute(k, INCREMENT);
+        }
+    }
+
+    @Threads(1)
+    public static class T1 extends ConcurrentHashMapContention {
+    }
+
+    @Threads(2)
+    public static class T2 extends ConcurrentHashMapContention {
+    }
+
+    @Threads(4)
+    public static class T4 extends ConcurrentHashMapContention {
+    }
+
+    @Threads(8)
+    public static class T8 extends ConcurrentHashMapContention {
+    }
+
+    @Threads(16)
+    public static class T16 extends ConcurrentHashMapContention {
+    }
+
+    @Threads(32)
+    public static class T32 extends ConcurrentHashMapContention {
+    }
+
+    @Threads(Threads.MAX)
+    public static class TMax extends ConcurrentHashMapContention {
+    }
+}
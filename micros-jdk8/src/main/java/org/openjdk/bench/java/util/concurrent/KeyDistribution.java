@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.concurrent;
+
+import java.util.Random;
+
+/**
+ * Distributions of key accesses for the map contention benchmarks.
+ * Access sequences are precomputed, so that drawing the next key costs the
+ * same for every distribution.
+ */
+public enum KeyDistribution {
+    /** Every key is equally likely. */
+    UNIFORM,
+    /** 90% of the accesses go to 10% of the keys. */
+    HOTSPOT,
+    /**
+     * Zipfian with exponent 0.99, as in YCSB, using the generator from
+     * Gray et al., "Quickly Generating Billion-Record Synthetic Databases".
+     */
+    ZIPF;
+
+    private static final double THETA = 0.99;
+
+    /**
+     * Draws a sequence of key indices in {@code [0, size)}. Index 0 is the
+     * most frequent one for the skewed distributions.
+     *
+     * @param size number of distinct keys
+     * @param count length of the sequence
+     * @param seed random seed
+     * @return the key indices
+     */
+    public int[] indices(int size, int count, long seed) {
+        Random rnd = new Random(seed);
+        int[] result = new int[count];
+        switch (this) {
+            case UNIFORM:
+                for (int i = 0; i < count; i++) {
+                    result[i] = rnd.nextInt(size);
+                }
+                break;
+            case HOTSPOT:
+                int hot = Math.max(1, size / 10);
+                for (int i = 0; i < count; i++) {
+                    result[i] = (rnd.nextInt(10) < 9 || hot == size)
+                            ? rnd.nextInt(hot)
+                            : hot + rnd.nextInt(size - hot);
+                }
+                break;
+            case ZIPF:
+                double zetan = zeta(size);
+                double eta = (1 - Math.pow(2.0 / size, 1 - THETA)) / (1 - zeta(2) / zetan);
+                double half = 1.0 + Math.pow(0.5, THETA);
+                for (int i = 0; i < count; i++) {
+                    double u = rnd.nextDouble();
+                    double uz = u * zetan;
+                    int r;
+                    if (uz < 1.0) {
+                        r = 0;
+                    } else if (uz < half) {
+                        r = 1;
+                    } else {
+                        r = (int) (size * Math.pow(eta * u - eta + 1, 1.0 / (1.0 - THETA)));
+                    }
+                    result[i] = Math.min(r, size - 1);
+                }
+                break;
+            default:
+                throw new IllegalStateException();
+        }
+        return result;
+    }
+
+    private static double zeta(long n) {
+        double sum = 0;
+        for (long i = 1; i <= n; i++) {
+            sum += 1.0 / Math.pow(i, THETA);
+        }
+        return sum;
+    }
+}
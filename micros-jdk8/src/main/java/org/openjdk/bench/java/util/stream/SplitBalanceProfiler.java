@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.stream;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.Defaults;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Reports how evenly each parallel operation of {@link SplitQuality}
+ * spread its work over the threads that could run it, the common pool
+ * workers and the caller, averaged over the operations of an iteration.
+ * {@code split.imbalance} is the work of the busiest thread relative to an
+ * even share, from 1 for a perfect spread to parallelism + 1 when one thread
+ * did everything. {@code split.workers} counts the threads that did any work.
+ *
+ * <pre>
+ * -prof org.openjdk.bench.java.util.stream.SplitBalanceProfiler
+ * </pre>
+ */
+public class SplitBalanceProfiler implements InternalProfiler {
+
+    /** Whether {@link SplitQuality} records the work of each thread */
+    static volatile boolean enabled;
+
+    public SplitBalanceProfiler() {
+        enabled = true;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Parallel stream work balance";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        SplitQuality.resetBalance();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+                                                       IterationParams iterationParams,
+                                                       IterationResult result) {
+        double[] balance = SplitQuality.balance();
+        if (balance == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(
+                new ScalarResult(Defaults.PREFIX + "split.imbalance", balance[0], "x", AggregationPolicy.AVG),
+                new ScalarResult(Defaults.PREFIX + "split.workers", balance[1], "threads", AggregationPolicy.AVG));
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs the same work over the same N elements from sources whose
+ * spliterators split with different quality, sequentially and in parallel.
+ * The parallel speedup for a source is the ratio of the two scores; vary
+ * the common pool parallelism with
+ * {@code -jvmArgs -Djava.util.concurrent.ForkJoinPool.common.parallelism=P}.
+ *
+ * Every element costs Q iterations of {@link Decomposition#doWork}, or with
+ * {@code cost=SKEWED} the last tenth of the elements costs 10 * Q each and
+ * the rest nothing, for the same total. {@link SplitBalanceProfiler}
+ * reports how evenly the parallel operations spread that work over the
+ * threads:
+ *
+ * <pre>
+ * -prof org.openjdk.bench.java.util.stream.SplitBalanceProfiler
+ * </pre>
+ *
+ * Only with the profiler enabled is the work of each thread recorded, which
+ * costs a map lookup per element; take the scores from runs without it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class SplitQuality {
+
+    public enum Source {
+        /** Array spliterator: sized, splits in exact halves */
+        ARRAY,
+        /** Iterator spliterator of known size: splits off growing batches */
+        SIZED_ITERATOR,
+        /** Iterator spliterator of unknown size: batches, and no size to balance by */
+        UNSIZED_ITERATOR,
+        /** LinkedList spliterator: batches, over a linked structure */
+        LINKED_LIST,
+        /** Stream.iterate with limit: unknown size, sequential generator */
+        ITERATE
+    }
+
+    public enum Cost {
+        UNIFORM, SKEWED
+    }
+
+    @Param({"1000", "100000"})
+    private int N;
+
+    @Param("100")
+    private int Q;
+
+    @Param
+    private Source source;
+
+    @Param
+    private Cost cost;
+
+    private Long[] array;
+    private List<Long> linked;
+
+    /**
+     * Work done by each thread in the current operation. Not a ThreadLocal,
+     * since common pool workers may erase those between tasks.
+     */
+    private static final Map<Thread, long[]> WORK = new ConcurrentHashMap<>();
+
+    /** Sums over the operations of an iteration, see {@link SplitBalanceProfiler} */
+    private static double imbalanceSum;
+    private static long workersSum;
+    private static long ops;
+
+    /** The threads that can work on a parallel stream: the pool and the caller */
+    private int threads;
+
+    @Setup
+    public void setup() {
+        array = new Long[N];
+        for (int i = 0; i < N; i++) {
+            array[i] = (long) i;
+        }
+        linked = new LinkedList<>(Arrays.asList(array));
+        threads = ForkJoinPool.getCommonPoolParallelism() + 1;
+    }
+
+    private Stream<Long> stream(boolean parallel) {
+        switch (source) {
+            case ARRAY:
+                return StreamSupport.stream(Arrays.spliterator(array), parallel);
+            case SIZED_ITERATOR:
+                return StreamSupport.stream(Spliterators.spliterator(Arrays.asList(array).iterator(), N, Spliterator.ORDERED), parallel);
+            case UNSIZED_ITERATOR:
+                return StreamSupport.stream(Spliterators.spliteratorUnknownSize(Arrays.asList(array).iterator(), Spliterator.ORDERED), parallel);
+            case LINKED_LIST:
+                return StreamSupport.stream(linked.spliterator(), parallel);
+            case ITERATE: {
+                Stream<Long> s = Stream.iterate(0L, l -> l + 1).limit(N);
+                return parallel ? s.parallel() : s;
+            }
+            default:
+                throw new IllegalArgumentException(source.toString());
+        }
+    }
+
+    private long cost(long k) {
+        if (cost == Cost.UNIFORM) {
+            return Q;
+        }
+        return (k >= N - N / 10) ? 10L * Q : 0;
+    }
+
+    private boolean work(long k) {
+        return Decomposition.doWork(k, cost(k));
+    }
+
+    private boolean recordedWork(long k) {
+        long q = cost(k);
+        WORK.computeIfAbsent(Thread.currentThread(), t -> new long[1])[0] += q;
+        return Decomposition.doWork(k, q);
+    }
+
+    private long run(boolean parallel) {
+        if (!parallel || !SplitBalanceProfiler.enabled) {
+            return stream(parallel).filter(this::work).count();
+        }
+        WORK.clear();
+        long count = stream(true).filter(this::recordedWork).count();
+        long total = 0;
+        long max = 0;
+        int workers = 0;
+        for (long[] work : WORK.values()) {
+            total += work[0];
+            max = Math.max(max, work[0]);
+            workers++;
+        }
+        if (total > 0) {
+            synchronized (SplitQuality.class) {
+                imbalanceSum += (double) max * threads / total;
+                workersSum += workers;
+                ops++;
+            }
+        }
+        return count;
+    }
+
+    static synchronized void resetBalance() {
+        imbalanceSum = 0;
+        workersSum = 0;
+        ops = 0;
+    }
+
+    /**
+     * @return the average imbalance and number of workers per operation
+     *         since the last reset, or {@code null} if there were none
+     */
+    static synchronized double[] balance() {
+        return (ops == 0) ? null : new double[] { imbalanceSum / ops, (double) workersSum / ops };
+    }
+
+    @Benchmark
+    public long sequential() {
+        return run(false);
+    }
+
+    @Benchmark
+    public long parallel() {
+        return run(true);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.stream.sources;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Spliterator over a file of native-order longs, mapped as consecutive
+ * segments of {@value #SEGMENT_LONGS} longs since a single mapping cannot
+ * exceed 2 GB. Splits halve the remaining index range down to
+ * {@value #MIN_SPLIT} elements, so a parallel stream sees balanced, sized
+ * splits, like those of an array.
+ */
+final class MappedLongSpliterator implements Spliterator.OfLong {
+
+    static final int SEGMENT_SHIFT = 27;
+    static final int SEGMENT_LONGS = 1 << SEGMENT_SHIFT;
+    static final int MIN_SPLIT = 1 << 12;
+
+    private final LongBuffer[] segments;
+    private long index;
+    private final long fence;
+
+    private MappedLongSpliterator(LongBuffer[] segments, long index, long fence) {
+        this.segments = segments;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    /**
+     * Maps all longs in {@code file}. The mappings stay valid after this
+     * method returns, until they are garbage collected.
+     */
+    static MappedLongSpliterator map(Path file) throws IOException {
+        try (FileChannel fc = FileChannel.open(file, StandardOpenOption.READ)) {
+            long count = fc.size() / Long.BYTES;
+            LongBuffer[] segments = new LongBuffer[(int) ((count + SEGMENT_LONGS - 1) >>> SEGMENT_SHIFT)];
+            for (int s = 0; s < segments.length; s++) {
+                long start = (long) s << SEGMENT_SHIFT;
+                long longs = Math.min(SEGMENT_LONGS, count - start);
+                segments[s] = fc.map(FileChannel.MapMode.READ_ONLY, start * Long.BYTES, longs * Long.BYTES)
+                        .order(ByteOrder.nativeOrder())
+                        .asLongBuffer();
+            }
+            return new MappedLongSpliterator(segments, 0, count);
+        }
+    }
+
+    /**
+     * @return a spliterator over all longs, for a new stream
+     */
+    MappedLongSpliterator copy() {
+        return new MappedLongSpliterator(segments, 0, fence);
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (index < fence) {
+            long i = index++;
+            action.accept(segments[(int) (i >>> SEGMENT_SHIFT)].get((int) i & (SEGMENT_LONGS - 1)));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        long i = index;
+        long end = fence;
+        index = end;
+        while (i < end) {
+            LongBuffer segment = segments[(int) (i >>> SEGMENT_SHIFT)];
+            int from = (int) i & (SEGMENT_LONGS - 1);
+            int to = (int) Math.min(SEGMENT_LONGS, from + (end - i));
+            for (int j = from; j < to; j++) {
+                action.accept(segment.get(j));
+            }
+            i += to - from;
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        long lo = index;
+        long mid = (lo + fence) >>> 1;
+        if (mid - lo < MIN_SPLIT) {
+            return null;
+        }
+        index = mid;
+        return new MappedLongSpliterator(segments, lo, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.java.util.stream.sources;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams {@code size} longs from a memory-mapped file through
+ * {@link MappedLongSpliterator}, sequentially and in parallel, with
+ * {@code LongStream.range} over the same values as the in-memory baseline.
+ * The file takes {@code 8 * size} bytes in {@code java.io.tmpdir}, 8 GB for
+ * the largest size, and is in the page cache after the first pass unless
+ * memory is short.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+@State(Scope.Benchmark)
+public class MappedLongStream {
+
+    private static final int CHUNK = 1 << 20;
+
+    @Param({"1000000", "100000000", "1000000000"})
+    private long size;
+
+    private Path file;
+    private MappedLongSpliterator source;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = Files.createTempFile("longs", ".bin");
+        ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK * Long.BYTES).order(ByteOrder.nativeOrder());
+        try (FileChannel fc = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            for (long i = 0; i < size; ) {
+                ((Buffer) chunk).clear();
+                for (int j = 0; j < CHUNK && i < size; j++, i++) {
+                    chunk.putLong(i);
+                }
+                ((Buffer) chunk).flip();
+                while (chunk.hasRemaining()) {
+                    fc.write(chunk);
+                }
+            }
+        }
+        source = MappedLongSpliterator.map(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        source = null;
+        Files.deleteIfExists(file);
+    }
+
+    private LongStream mapped(boolean parallel) {
+        return StreamSupport.longStream(source.copy(), parallel);
+    }
+
+    @Benchmark
+    public long seq_mapped() {
+        return mapped(false).filter(l -> (l & 1) == 0).map(l -> l * 31).sum();
+    }
+
+    @Benchmark
+    public long par_mapped() {
+        return mapped(true).filter(l -> (l & 1) == 0).map(l -> l * 31).sum();
+    }
+
+    @Benchmark
+    public long seq_range() {
+        return LongStream.range(0, size).filter(l -> (l & 1) == 0).map(l -> l * 31).sum();
+    }
+
+    @Benchmark
+    public long par_range() {
+        return LongStream.range(0, size).parallel().filter(l -> (l & 1) == 0).map(l -> l * 31).sum();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.javax.crypto.full;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.InvalidAlgorithmParameterException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+
+/**
+ * Encrypts with a cipher obtained in different ways, to show what instance
+ * management costs once several threads share the provider framework:
+ * <ul>
+ * <li>{@code perThread}: one initialized cipher per thread, as the other
+ * benchmarks in this package do;</li>
+ * <li>{@code threadLocal}: one initialized cipher per thread, fetched from a
+ * shared {@link ThreadLocal} on each operation;</li>
+ * <li>{@code getInstance}: {@code Cipher.getInstance(algorithm)} and init on
+ * each operation, which searches the installed providers;</li>
+ * <li>{@code getInstanceProvider}: the same with the {@link Provider}
+ * resolved once up front.</li>
+ * </ul>
+ * All four use the provider selected with the {@code provider} parameter,
+ * or the default provider for the algorithm if it is empty.
+ * Run it with several thread counts, e.g. with
+ * {@code org.openjdk.bench.util.scaling.ScalingRunner} from micros-util,
+ * which also reports per-thread efficiency.
+ */
+public class CipherInstanceBench extends CryptoBase {
+
+    public static final int SET_SIZE = 128;
+
+    @Param({"64", "1024", "16384"})
+    private int dataSize;
+
+    private String algorithm;
+    private byte[][] data;
+    private Cipher cipher;
+    private int index = 0;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param({"AES/CBC/PKCS5Padding"})
+        private String algorithm;
+
+        @Param({"128"})
+        private int keyLength;
+
+        @Param({""})
+        private String provider;
+
+        SecretKeySpec ks;
+        IvParameterSpec iv;
+        Provider prov;
+        ThreadLocal<Cipher> cached;
+
+        @Setup
+        public void setup() throws GeneralSecurityException {
+            ks = new SecretKeySpec(fillSecureRandom(new byte[keyLength / 8]), "AES");
+            iv = new IvParameterSpec(fillSecureRandom(new byte[16]));
+            prov = makeCipher(findProvider(provider), algorithm).getProvider();
+            cached = ThreadLocal.withInitial(() -> {
+                try {
+                    Cipher c = Cipher.getInstance(algorithm, prov);
+                    c.init(Cipher.ENCRYPT_MODE, ks, iv);
+                    return c;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+
+    @Setup
+    public void setup(Shared shared) throws GeneralSecurityException {
+        setupProvider();
+        algorithm = shared.algorithm;
+        cipher = makeCipher(prov, algorithm);
+        cipher.init(Cipher.ENCRYPT_MODE, shared.ks, shared.iv);
+        data = fillRandom(new byte[SET_SIZE][dataSize]);
+    }
+
+    private byte[] next() {
+        byte[] d = data[index];
+        index = (index + 1) % SET_SIZE;
+        return d;
+    }
+
+    @Benchmark
+    public byte[] perThread() throws BadPaddingException, IllegalBlockSizeException {
+        return cipher.doFinal(next());
+    }
+
+    @Benchmark
+    public byte[] threadLocal(Shared shared) throws BadPaddingException, IllegalBlockSizeException {
+        return shared.cached.get().doFinal(next());
+    }
+
+    @Benchmark
+    public byte[] getInstance(Shared shared) throws NoSuchAlgorithmException, NoSuchPaddingException,
+            InvalidKeyException, InvalidAlgorithmParameterException, BadPaddingException, IllegalBlockSizeException {
+        Cipher c = makeCipher(prov, algorithm);
+        c.init(Cipher.ENCRYPT_MODE, shared.ks, shared.iv);
+        return c.doFinal(next());
+    }
+
+    @Benchmark
+    public byte[] getInstanceProvider(Shared shared) throws NoSuchAlgorithmException, NoSuchPaddingException,
+            InvalidKeyException, InvalidAlgorithmParameterException, BadPaddingException, IllegalBlockSizeException {
+        Cipher c = Cipher.getInstance(algorithm, shared.prov);
+        c.init(Cipher.ENCRYPT_MODE, shared.ks, shared.iv);
+        return c.doFinal(next());
+    }
+}
@@ -62,12 +62,27 @@ public class CryptoBase {
 
     @Setup
     public void setupProvider() {
-        if (provider != null && !provider.isEmpty()) {
-            prov = Security.getProvider(provider);
-            if (prov == null) {
-                throw new RuntimeException("Can't find prodiver \"" + provider + "\"");
-            }
+        prov = findProvider(provider);
+    }
+
+    /**
+     * Resolves the {@code provider} parameter. Nested states that need the
+     * provider declare their own {@code @Param String provider}; JMH gives
+     * parameters of the same name the same value, so they see the one
+     * selected with {@code -p provider=...}.
+     *
+     * @return the installed provider named {@code provider}, or {@code null}
+     *         for the default providers if it is empty
+     */
+    public static Provider findProvider(String provider) {
+        if (provider == null || provider.isEmpty()) {
+            return null;
+        }
+        Provider prov = Security.getProvider(provider);
+        if (prov == null) {
+            throw new RuntimeException("Can't find prodiver \"" + provider + "\"");
         }
+        return prov;
     }
 
     public static Cipher makeCipher(Provider prov, String algorithm) throws NoSuchPaddingException, NoSuchAlgorithmException {
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.javax.crypto.full;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free pool of reusable instances. Idle instances sit in a fixed array
+ * of slots; a thread starts scanning at a slot derived from its identity
+ * hash, so threads mostly touch different slots. When no instance is idle a
+ * new one is created, and an instance returned to a full pool is dropped.
+ */
+final class InstancePool<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final Supplier<T> factory;
+
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    InstancePool(int capacity, Supplier<T> factory) {
+        int n = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(n);
+        this.mask = n - 1;
+        this.factory = factory;
+    }
+
+    private int start() {
+        return System.identityHashCode(Thread.currentThread()) & mask;
+    }
+
+    T acquire() {
+        int start = start();
+        for (int i = 0; i <= mask; i++) {
+            int slot = (start + i) & mask;
+            if (slots.get(slot) != null) {
+                T t = slots.getAndSet(slot, null);
+                if (t != null) {
+                    return t;
+                }
+            }
+        }
+        return factory.get();
+    }
+
+    void release(T t) {
+        int start = start();
+        for (int i = 0; i <= mask; i++) {
+            int slot = (start + i) & mask;
+            if (slots.get(slot) == null && slots.compareAndSet(slot, null, t)) {
+                return;
+            }
+        }
+    }
+}
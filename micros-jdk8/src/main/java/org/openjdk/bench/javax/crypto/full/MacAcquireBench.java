@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.javax.crypto.full;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+
+/**
+ * HMACs small payloads with a {@link Mac} acquired in different ways, as
+ * {@link MessageDigestAcquireBench} does for digests. {@code getInstance}
+ * also has to init the new instance with the key on every operation, while
+ * clones of an initialized prototype already carry it.
+ *
+ * Run it with several thread counts, e.g. with
+ * {@code org.openjdk.bench.util.scaling.ScalingRunner} from micros-util.
+ */
+public class MacAcquireBench extends CryptoBase {
+
+    public static final int SET_SIZE = 128;
+
+    @Param({"32", "256", "1024"})
+    private int dataSize;
+
+    private byte[][] data;
+    private Mac held;
+    private int index = 0;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param({"HmacSHA256"})
+        private String algorithm;
+
+        @Param({""})
+        private String provider;
+
+        SecretKey key;
+        Mac prototype;
+        InstancePool<Mac> pool;
+        ThreadLocal<Mac> cached;
+
+        @Setup
+        public void setup() throws NoSuchAlgorithmException, InvalidKeyException {
+            Provider prov = findProvider(provider);
+            key = ((prov == null) ? KeyGenerator.getInstance(algorithm) : KeyGenerator.getInstance(algorithm, prov)).generateKey();
+            prototype = (prov == null) ? Mac.getInstance(algorithm) : Mac.getInstance(algorithm, prov);
+            prototype.init(key);
+            pool = new InstancePool<>(2 * Runtime.getRuntime().availableProcessors(), this::copy);
+            cached = ThreadLocal.withInitial(this::copy);
+        }
+
+        Mac copy() {
+            try {
+                return (Mac) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Setup
+    public void setup(Shared shared) {
+        setupProvider();
+        held = shared.copy();
+        data = fillRandom(new byte[SET_SIZE][dataSize]);
+    }
+
+    private byte[] next() {
+        byte[] d = data[index];
+        index = (index + 1) % SET_SIZE;
+        return d;
+    }
+
+    @Benchmark
+    public byte[] held() {
+        return held.doFinal(next());
+    }
+
+    @Benchmark
+    public byte[] getInstance(Shared shared) throws NoSuchAlgorithmException, InvalidKeyException {
+        Mac mac = (prov == null) ? Mac.getInstance(shared.algorithm) : Mac.getInstance(shared.algorithm, prov);
+        mac.init(shared.key);
+        return mac.doFinal(next());
+    }
+
+    @Benchmark
+    public byte[] cloned(Shared shared) {
+        return shared.copy().doFinal(next());
+    }
+
+    @Benchmark
+    public byte[] pooled(Shared shared) {
+        Mac mac = shared.pool.acquire();
+        try {
+            return mac.doFinal(next());
+        } finally {
+            shared.pool.release(mac);
+        }
+    }
+
+    @Benchmark
+    public byte[] threadLocal(Shared shared) {
+        return shared.cached.get().doFinal(next());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.javax.crypto.full;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+
+/**
+ * Hashes small payloads with a {@link MessageDigest} acquired in different
+ * ways, to show what acquisition costs when it happens on every request:
+ * {@code getInstance} per operation, {@code clone()} of a prototype, a
+ * lock-free pool, a {@link ThreadLocal}, and as the baseline an instance
+ * held by the thread. Unlike {@link MessageDigestBench} the payloads are
+ * small enough for acquisition to dominate. All of them use the provider
+ * selected with the {@code provider} parameter.
+ *
+ * Run it with several thread counts, e.g. with
+ * {@code org.openjdk.bench.util.scaling.ScalingRunner} from micros-util.
+ */
+public class MessageDigestAcquireBench extends CryptoBase {
+
+    public static final int SET_SIZE = 128;
+
+    @Param({"32", "256", "1024"})
+    private int dataSize;
+
+    private byte[][] data;
+    private MessageDigest held;
+    private int index = 0;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param({"SHA-256"})
+        private String algorithm;
+
+        @Param({""})
+        private String provider;
+
+        MessageDigest prototype;
+        InstancePool<MessageDigest> pool;
+        ThreadLocal<MessageDigest> cached;
+
+        @Setup
+        public void setup() throws NoSuchAlgorithmException {
+            Provider prov = findProvider(provider);
+            prototype = (prov == null) ? MessageDigest.getInstance(algorithm) : MessageDigest.getInstance(algorithm, prov);
+            pool = new InstancePool<>(2 * Runtime.getRuntime().availableProcessors(), this::copy);
+            cached = ThreadLocal.withInitial(this::copy);
+        }
+
+        MessageDigest copy() {
+            try {
+                return (MessageDigest) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Setup
+    public void setup(Shared shared) {
+        setupProvider();
+        held = shared.copy();
+        data = fillRandom(new byte[SET_SIZE][dataSize]);
+    }
+
+    private byte[] next() {
+        byte[] d = data[index];
+        index = (index + 1) % SET_SIZE;
+        return d;
+    }
+
+    @Benchmark
+    public byte[] held() {
+        return held.digest(next());
+    }
+
+    @Benchmark
+    public byte[] getInstance(Shared shared) throws NoSuchAlgorithmException {
+        MessageDigest md = (prov == null) ? MessageDigest.getInstance(shared.algorithm) : MessageDigest.getInstance(shared.algorithm, prov);
+        return md.digest(next());
+    }
+
+    @Benchmark
+    public byte[] cloned(Shared shared) {
+        return shared.copy().digest(next());
+    }
+
+    @Benchmark
+    public byte[] pooled(Shared shared) {
+        MessageDigest md = shared.pool.acquire();
+        try {
+            return md.digest(next());
+        } finally {
+            shared.pool.release(md);
+        }
+    }
+
+    @Benchmark
+    public byte[] threadLocal(Shared shared) {
+        return shared.cached.get().digest(next());
+    }
+}
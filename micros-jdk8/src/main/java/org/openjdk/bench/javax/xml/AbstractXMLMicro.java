@@ -45,6 +45,7 @@ public abstract class AbstractXMLMicro {
   public static final String MESSAGE12 = "message_12.xml";
   public static final String MSGATTACH = "msgAttach.xml";
   public static final String REZ = "reZ003vExc23082309.xml";
+  public static final String GENERATED = "generated";
 
   protected static final ConcurrentHashMap<String, byte[]> byteCache = new ConcurrentHashMap<>();
 
@@ -88,11 +89,27 @@ public abstract class AbstractXMLMicro {
    * @throws URISyntaxException if resource given doesn't match syntax
    */
   protected byte[] getFileBytesFromResource(String name) throws IOException, URISyntaxException {
+    return getDocumentBytes(name);
+  }
+
+  /**
+   * Gets a given resource, or for {@link #GENERATED} a 4 MB document from
+   * {@link XMLGenerator}, as a byte-array.
+   *
+   * @param name resource to fetch
+   * @return byte-array
+   * @throws IOException if things go crazy-crazy
+   */
+  static byte[] getDocumentBytes(String name) throws IOException {
     byte[] bytes = byteCache.get(name);
     if (bytes == null) {
-      bytes = getBytes(this.getClass().getResourceAsStream("/"
-              + AbstractXMLMicro.class.getPackage().getName().replace(".", "/")
-              + "/" + name));
+      if (GENERATED.equals(name)) {
+        bytes = XMLGenerator.generate(4 << 20, 8, 2);
+      } else {
+        bytes = getBytes(AbstractXMLMicro.class.getResourceAsStream("/"
+                + AbstractXMLMicro.class.getPackage().getName().replace(".", "/")
+                + "/" + name));
+      }
       byteCache.put(name, bytes);
     }
     return bytes;
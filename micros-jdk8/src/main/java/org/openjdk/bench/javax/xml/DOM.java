@@ -82,7 +82,7 @@ public class DOM extends AbstractXMLMicro {
         return docBuilder.parse(source);
     }
 
-    // TODO Fix so it isn't recursive?
+    // Kept recursive so that results stay comparable, see DOMTraversal for iterative walks
     private static void walkElementRecursive(Element element) {
         // loop through children
         if (element.hasChildNodes()) {
@@ -99,7 +99,7 @@ public class DOM extends AbstractXMLMicro {
         }
     }
 
-    // TODO Fix so it isn't recursive?
+    // Kept recursive so that results stay comparable, see DOMTraversal for iterative walks
     private void modifyElementRecursive(Element element) {
 
         // check for children present
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.javax.xml;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits what {@link DOM#testBuild} measures as a whole into factory lookup,
+ * builder creation and parsing with a new or a reused builder, on generated
+ * documents (see {@link XMLGenerator}) of increasing nesting depth.
+ * {@code parseAll} does all steps per operation, as {@link DOM} does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class DOMBuild {
+
+    @Param({"4"})
+    private int sizeMb;
+
+    @Param({"8", "256", "4096"})
+    private int depth;
+
+    private byte[] bytes;
+    private DocumentBuilderFactory factory;
+    private DocumentBuilder builder;
+
+    @Setup
+    public void setup() throws Exception {
+        bytes = XMLGenerator.generate((long) sizeMb << 20, depth, 2);
+        factory = newFactory();
+        builder = factory.newDocumentBuilder();
+    }
+
+    @Benchmark
+    public DocumentBuilderFactory newFactory() {
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setValidating(false);
+        dbf.setNamespaceAware(true);
+        return dbf;
+    }
+
+    @Benchmark
+    public DocumentBuilder newBuilder() throws ParserConfigurationException {
+        return factory.newDocumentBuilder();
+    }
+
+    @Benchmark
+    public Document parseNewBuilder() throws Exception {
+        return factory.newDocumentBuilder().parse(new InputSource(new ByteArrayInputStream(bytes)));
+    }
+
+    @Benchmark
+    public Document parseReusedBuilder() throws Exception {
+        builder.reset();
+        return builder.parse(new InputSource(new ByteArrayInputStream(bytes)));
+    }
+
+    @Benchmark
+    public Document parseAll() throws Exception {
+        return newFactory().newDocumentBuilder().parse(new InputSource(new ByteArrayInputStream(bytes)));
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.javax.xml;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.traversal.DocumentTraversal;
+import org.w3c.dom.traversal.NodeFilter;
+import org.w3c.dom.traversal.NodeIterator;
+import org.w3c.dom.traversal.TreeWalker;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walks and modifies an already parsed DOM, so that neither factory lookup
+ * nor parsing is part of the measurement (see {@link DOMBuild} for those).
+ * The documents are generated (see {@link XMLGenerator}) with increasing
+ * nesting depth. Every walk visits all elements in document order:
+ * recursively as {@link DOM#testWalk} does, with an explicit stack, by
+ * following parent and sibling links without any stack, and through the
+ * DOM Level 2 {@link TreeWalker} and {@link NodeIterator}.
+ *
+ * The modify benchmarks apply the transformation of {@link DOM#testModify}
+ * recursively and with an explicit stack, to a fresh copy of the document
+ * made before every invocation; a modification takes long enough for the
+ * per-invocation setup not to distort the result. The recursive variants
+ * run on the default thread stack with a frame per level. The depths
+ * offered here all fit in it, so they show what recursion costs, not where
+ * it runs out of stack.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class DOMTraversal {
+
+    @Param({"4"})
+    private int sizeMb;
+
+    @Param({"8", "256", "4096"})
+    private int depth;
+
+    private static final long COPY_STACK_SIZE = 256 << 20;
+
+    private Document document;
+
+    @Setup
+    public void setup() throws Exception {
+        byte[] bytes = XMLGenerator.generate((long) sizeMb << 20, depth, 2);
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setNamespaceAware(true);
+        document = dbf.newDocumentBuilder().parse(new InputSource(new ByteArrayInputStream(bytes)));
+    }
+
+    @Benchmark
+    public int walkRecursive() {
+        return walkRecursive(document.getDocumentElement());
+    }
+
+    private static int walkRecursive(Element element) {
+        int count = 1;
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                count += walkRecursive((Element) child);
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int walkStack() {
+        int count = 0;
+        ArrayDeque<Node> stack = new ArrayDeque<>();
+        stack.push(document.getDocumentElement());
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            count++;
+            // Push in reverse so that children are visited in document order
+            for (Node child = node.getLastChild(); child != null; child = child.getPreviousSibling()) {
+                if (child.getNodeType() == Node.ELEMENT_NODE) {
+                    stack.push(child);
+                }
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int walkLinks() {
+        Node root = document.getDocumentElement();
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                count++;
+                Node child = node.getFirstChild();
+                if (child != null) {
+                    node = child;
+                    continue;
+                }
+            }
+            while (node != root && node.getNextSibling() == null) {
+                node = node.getParentNode();
+            }
+            node = (node == root) ? null : node.getNextSibling();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int walkTreeWalker() {
+        TreeWalker walker = ((DocumentTraversal) document)
+                .createTreeWalker(document.getDocumentElement(), NodeFilter.SHOW_ELEMENT, null, true);
+        int count = 1;
+        while (walker.nextNode() != null) {
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int walkNodeIterator() {
+        NodeIterator it = ((DocumentTraversal) document)
+                .createNodeIterator(document.getDocumentElement(), NodeFilter.SHOW_ELEMENT, null, true);
+        int count = 0;
+        while (it.nextNode() != null) {
+            count++;
+        }
+        it.detach();
+        return count;
+    }
+
+    @State(Scope.Thread)
+    public static class Copy {
+        Document document;
+
+        @Setup(Level.Invocation)
+        public void setup(DOMTraversal bench) throws InterruptedException {
+            // cloneNode is recursive; copy on a thread with a stack deep enough
+            // for any depth, so that only the code under test runs on the
+            // default stack
+            Thread t = new Thread(null, () -> document = (Document) bench.document.cloneNode(true),
+                    "copy", COPY_STACK_SIZE);
+            t.start();
+            t.join();
+        }
+    }
+
+    @Benchmark
+    public Document modifyRecursive(Copy copy) {
+        modifyRecursive(copy.document.getDocumentElement());
+        return copy.document;
+    }
+
+    private static void modifyRecursive(Element element) {
+        // Children first, so that the text elements added below are not descended into
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                modifyRecursive((Element) child);
+            }
+        }
+        if (modifyChildren(element)) {
+            markContent(element);
+        }
+    }
+
+    @Benchmark
+    public Document modifyStack(Copy copy) {
+        ArrayDeque<Element> stack = new ArrayDeque<>();
+        stack.push(copy.document.getDocumentElement());
+        while (!stack.isEmpty()) {
+            Element element = stack.pop();
+            // Push before modifying, so that the text elements added are not descended into
+            for (Node child = element.getLastChild(); child != null; child = child.getPreviousSibling()) {
+                if (child.getNodeType() == Node.ELEMENT_NODE) {
+                    stack.push((Element) child);
+                }
+            }
+            if (modifyChildren(element)) {
+                markContent(element);
+            }
+        }
+        return copy.document;
+    }
+
+    /**
+     * Removes whitespace-only text children of {@code element} and wraps the
+     * other text children in a {@code text} element.
+     *
+     * @return whether any non-whitespace text was found
+     */
+    private static boolean modifyChildren(Element element) {
+        boolean content = false;
+        Node child = element.getFirstChild();
+        while (child != null) {
+            Node next = child.getNextSibling();
+            if (child.getNodeType() == Node.TEXT_NODE) {
+                String trimmed = child.getNodeValue().trim();
+                if (trimmed.isEmpty()) {
+                    element.removeChild(child);
+                } else {
+                    content = true;
+                    Document doc = element.getOwnerDocument();
+                    String uri = element.getNamespaceURI();
+                    String prefix = element.getPrefix();
+                    Element text = (uri == null) ? doc.createElement("text")
+                            : doc.createElementNS(uri, (prefix == null) ? "text" : prefix + ":text");
+                    text.appendChild(doc.createTextNode(trimmed));
+                    element.replaceChild(text, child);
+                }
+            }
+            child = next;
+        }
+        return content;
+    }
+
+    private static void markContent(Element element) {
+        String prefix = element.getPrefix();
+        if (prefix == null || prefix.isEmpty()) {
+            element.setAttribute("text", "true");
+        } else {
+            element.setAttributeNS(element.getNamespaceURI(), prefix + ":text", "true");
+        }
+    }
+}
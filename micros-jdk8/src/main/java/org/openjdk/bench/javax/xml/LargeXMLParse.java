@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.javax.xml;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses large generated feeds (see {@link XMLGenerator}) with the StAX
+ * cursor and event APIs, SAX and DOM, reading either from memory or from a
+ * file through a {@link FileChannel}. Unlike the other XML micros the
+ * documents are far larger than the parser buffers, so this measures
+ * sustained parse throughput rather than parser setup.
+ *
+ * The streaming parsers count elements, attributes and text characters, so
+ * that every API sees the whole document; DOM builds the tree. Besides
+ * documents per second, every benchmark reports the parse rate as
+ * {@code megabytes}, in MB/s although JMH labels it ops/s. Run with
+ * {@link XMLHeapProfiler} for the peak heap:
+ *
+ * <pre>
+ * -prof org.openjdk.bench.javax.xml.XMLHeapProfiler
+ * </pre>
+ *
+ * With {@code source=MEMORY} the document itself is on the heap and counts
+ * towards the peak. DOM on the largest documents needs the 4 GB heap set
+ * here.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 3, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class LargeXMLParse {
+
+    public enum Source {
+        MEMORY, FILE
+    }
+
+    /** Megabytes parsed by a benchmark thread, reported per second. */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Parsed {
+        public double megabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            megabytes = 0;
+        }
+    }
+
+    @Param({"1", "16", "256"})
+    private int sizeMb;
+
+    @Param({"4", "16"})
+    private int depth;
+
+    @Param({"0", "4"})
+    private int attributes;
+
+    @Param
+    private Source source;
+
+    private byte[] bytes;
+    private Path file;
+    private long size;
+
+    private XMLInputFactory staxFactory;
+    private SAXParserFactory saxFactory;
+    private DocumentBuilderFactory domFactory;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        long target = (long) sizeMb << 20;
+        if (source == Source.MEMORY) {
+            bytes = XMLGenerator.generate(target, depth, attributes);
+            size = bytes.length;
+        } else {
+            file = XMLGenerator.createFile(target, depth, attributes);
+            size = Files.size(file);
+        }
+        staxFactory = XMLInputFactory.newInstance();
+        saxFactory = SAXParserFactory.newInstance();
+        saxFactory.setNamespaceAware(true);
+        domFactory = DocumentBuilderFactory.newInstance();
+        domFactory.setNamespaceAware(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private InputStream open(Parsed parsed) throws IOException {
+        parsed.megabytes += (double) size / (1 << 20);
+        if (source == Source.MEMORY) {
+            return new ByteArrayInputStream(bytes);
+        }
+        return Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+    @Benchmark
+    public long staxCursor(Parsed parsed) throws Exception {
+        long count = 0;
+        try (InputStream in = open(parsed)) {
+            XMLStreamReader reader = staxFactory.createXMLStreamReader(in);
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        count += 1 + reader.getAttributeCount();
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                        count += reader.getTextLength();
+                        break;
+                }
+            }
+            reader.close();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long staxEvent(Parsed parsed) throws Exception {
+        long count = 0;
+        try (InputStream in = open(parsed)) {
+            XMLEventReader reader = staxFactory.createXMLEventReader(in);
+            while (reader.hasNext()) {
+                XMLEvent event = reader.nextEvent();
+                if (event.isStartElement()) {
+                    count++;
+                    for (Iterator<?> it = ((StartElement) event).getAttributes(); it.hasNext(); it.next()) {
+                        count++;
+                    }
+                } else if (event.isCharacters()) {
+                    count += event.asCharacters().getData().length();
+                }
+            }
+            reader.close();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long sax(Parsed parsed) throws Exception {
+        Counter counter = new Counter();
+        try (InputStream in = open(parsed)) {
+            saxFactory.newSAXParser().parse(new InputSource(in), counter);
+        }
+        return counter.count;
+    }
+
+    @Benchmark
+    public Document dom(Parsed parsed) throws Exception {
+        try (InputStream in = open(parsed)) {
+            return domFactory.newDocumentBuilder().parse(new InputSource(in));
+        }
+    }
+
+    static class Counter extends DefaultHandler {
+        long count;
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            count += 1 + attributes.getLength();
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            count += length;
+        }
+    }
+}
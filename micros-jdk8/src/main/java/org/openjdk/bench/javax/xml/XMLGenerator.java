@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.javax.xml;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Generates synthetic XML feeds of a given size. The document is a
+ * {@code <feed>} root holding a sequence of {@code <record>} elements until
+ * the size is reached. Every record nests {@code depth} levels of
+ * {@code <node>} elements, each level carrying {@code attributes} attributes
+ * and two text leaves, so depth and attribute density can be varied without
+ * changing the size. The output is ASCII and deterministic.
+ */
+final class XMLGenerator {
+
+    private static final String[] WORDS = {
+        "alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel",
+        "india", "juliett", "kilo", "lima", "mike", "november", "oscar", "papa",
+        "quebec", "romeo", "sierra", "tango", "uniform", "victor", "whiskey", "xray",
+        "yankee", "zulu", "fish & chips", "a < b"
+    };
+
+    private final long size;
+    private final int depth;
+    private final int attributes;
+    private final Random random = new Random(42);
+
+    private long written;
+    private int id;
+
+    /**
+     * @param size approximate size of the document in bytes; the last
+     *             record is completed, so the document may be a bit larger
+     * @param depth nesting depth of the elements within a record
+     * @param attributes number of attributes on every nested element
+     */
+    XMLGenerator(long size, int depth, int attributes) {
+        this.size = size;
+        this.depth = depth;
+        this.attributes = attributes;
+    }
+
+    static byte[] generate(long size, int depth, int attributes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(Integer.MAX_VALUE - 8, size + 4096));
+        new XMLGenerator(size, depth, attributes).write(out);
+        return out.toByteArray();
+    }
+
+    static Path createFile(long size, int depth, int attributes) throws IOException {
+        Path file = Files.createTempFile("feed", ".xml");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+            new XMLGenerator(size, depth, attributes).write(out);
+        }
+        return file;
+    }
+
+    void write(OutputStream out) throws IOException {
+        Writer w = new OutputStreamWriter(out, StandardCharsets.US_ASCII);
+        written = 0;
+        id = 0;
+        emit(w, "<?xml version=\"1.0\" encoding=\"US-ASCII\"?>\n<feed xmlns=\"urn:example:feed\">\n");
+        while (written < size) {
+            emit(w, "<record id=\"" + id++ + "\">\n");
+            for (int level = 0; level < depth; level++) {
+                node(w, level);
+            }
+            for (int level = depth - 1; level >= 0; level--) {
+                emit(w, "</node>\n");
+            }
+            emit(w, "</record>\n");
+        }
+        emit(w, "</feed>\n");
+        w.flush();
+    }
+
+    private void node(Writer w, int level) throws IOException {
+        StringBuilder sb = new StringBuilder("<node level=\"").append(level).append('"');
+        for (int a = 0; a < attributes; a++) {
+            sb.append(" a").append(a).append("=\"").append(escape(word())).append('"');
+        }
+        sb.append(">\n<name>").append(escape(word())).append("</name>\n");
+        sb.append("<value>").append(random.nextInt(1_000_000)).append(' ').append(escape(word()))
+          .append(' ').append(escape(word())).append("</value>\n");
+        emit(w, sb.toString());
+    }
+
+    private String word() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static String escape(String s) {
+        return s.replace("&", "&amp;").replace("<", "&lt;");
+    }
+
+    private void emit(Writer w, String s) throws IOException {
+        w.write(s);
+        written += s.length();
+    }
+}
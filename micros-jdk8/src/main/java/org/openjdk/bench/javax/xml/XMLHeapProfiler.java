@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.javax.xml;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.Defaults;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Reports the peak heap usage of {@link LargeXMLParse}, as read from the
+ * heap memory pools:
+ *
+ * <pre>
+ * -prof org.openjdk.bench.javax.xml.XMLHeapProfiler
+ * </pre>
+ *
+ * {@code parse.heap.peak} is the sum of the peak usage of all heap memory
+ * pools during the iteration, an upper bound since the pools need not peak
+ * at the same time. It is dominated by how far the young generation fills
+ * up, so {@code parse.heap.retained} leaves out the eden pools and only
+ * counts what survived a collection. That part grows with what the parser
+ * keeps reachable: a DOM scales with the document, a streaming parser does
+ * not.
+ */
+public class XMLHeapProfiler implements InternalProfiler {
+
+    @Override
+    public String getDescription() {
+        return "XML parse peak heap";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+                                                       IterationParams iterationParams,
+                                                       IterationResult result) {
+        long peak = 0;
+        long retained = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                long used = pool.getPeakUsage().getUsed();
+                peak += used;
+                if (!pool.getName().contains("Eden")) {
+                    retained += used;
+                }
+            }
+        }
+        return Arrays.asList(
+                new ScalarResult(Defaults.PREFIX + "parse.heap.peak", (double) peak / (1 << 20), "MB", AggregationPolicy.MAX),
+                new ScalarResult(Defaults.PREFIX + "parse.heap.retained", (double) retained / (1 << 20), "MB", AggregationPolicy.MAX));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.javax.xml;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates XPath expressions against a parsed DOM: precompiled, compiled
+ * on every call by {@link XPath#evaluate}, and with a new {@link XPath}
+ * from a new factory on every call. {@code compile} measures compilation
+ * alone. The expressions only use local names, so that they apply to all
+ * documents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class XPathEval {
+
+    @Param({AbstractXMLMicro.MESSAGE12, AbstractXMLMicro.MSGATTACH, AbstractXMLMicro.GENERATED})
+    private String doc;
+
+    @Param({
+        "count(//*)",
+        "count(//*[@*][not(*)])",
+        "string-length(normalize-space(/))"
+    })
+    private String expression;
+
+    private Document document;
+    private XPath xpath;
+    private XPathExpression compiled;
+
+    @Setup
+    public void setup() throws Exception {
+        byte[] bytes = AbstractXMLMicro.getDocumentBytes(doc);
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setNamespaceAware(true);
+        document = dbf.newDocumentBuilder().parse(new InputSource(new ByteArrayInputStream(bytes)));
+        xpath = XPathFactory.newInstance().newXPath();
+        compiled = xpath.compile(expression);
+    }
+
+    @Benchmark
+    public String compiled() throws XPathExpressionException {
+        return compiled.evaluate(document);
+    }
+
+    @Benchmark
+    public String uncompiled() throws XPathExpressionException {
+        return xpath.evaluate(expression, document);
+    }
+
+    @Benchmark
+    public String newXPath() throws XPathExpressionException {
+        return XPathFactory.newInstance().newXPath().evaluate(expression, document);
+    }
+
+    @Benchmark
+    public XPathExpression compile() throws XPathExpressionException {
+        return xpath.compile(expression);
+    }
+}
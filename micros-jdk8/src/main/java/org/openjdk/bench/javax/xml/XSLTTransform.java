@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.javax.xml;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transforms documents with an XSLT stylesheet, compiling it on every call
+ * with {@link TransformerFactory#newTransformer(Source)}, creating a
+ * {@link Transformer} per call from shared {@link Templates}, and reusing a
+ * per-thread {@link Transformer}. {@code stax} transforms from a
+ * {@link StAXSource} instead of a stream. The stylesheet copies the
+ * document, dropping whitespace and annotating leaf elements, so the output
+ * is about as large as the input.
+ *
+ * Only the {@link Templates}, which are thread-safe, are shared by all
+ * threads; every thread has its own {@link TransformerFactory}, which is
+ * not. {@link TMax} runs with as many threads as there are CPUs to show
+ * whether sharing the templates scales.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class XSLTTransform {
+
+    static final String STYLESHEET =
+        "<xsl:stylesheet version=\"1.0\" xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\">\n" +
+        "  <xsl:output method=\"xml\" indent=\"no\"/>\n" +
+        "  <xsl:strip-space elements=\"*\"/>\n" +
+        "  <xsl:template match=\"@*|node()\">\n" +
+        "    <xsl:copy><xsl:apply-templates select=\"@*|node()\"/></xsl:copy>\n" +
+        "  </xsl:template>\n" +
+        "  <xsl:template match=\"*[not(*)]\">\n" +
+        "    <xsl:element name=\"{local-name()}\" namespace=\"{namespace-uri()}\">\n" +
+        "      <xsl:attribute name=\"length\"><xsl:value-of select=\"string-length(.)\"/></xsl:attribute>\n" +
+        "      <xsl:apply-templates select=\"@*|node()\"/>\n" +
+        "    </xsl:element>\n" +
+        "  </xsl:template>\n" +
+        "</xsl:stylesheet>\n";
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        Templates templates;
+
+        @Setup
+        public void setup() throws Exception {
+            templates = TransformerFactory.newInstance().newTemplates(new StreamSource(new StringReader(STYLESHEET)));
+        }
+    }
+
+    @Param({AbstractXMLMicro.MESSAGE12, AbstractXMLMicro.MSGATTACH, AbstractXMLMicro.GENERATED})
+    private String doc;
+
+    private byte[] bytes;
+    private TransformerFactory factory;
+    private Transformer transformer;
+    private XMLInputFactory staxFactory;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @Setup
+    public void setup(Shared shared) throws Exception {
+        bytes = AbstractXMLMicro.getDocumentBytes(doc);
+        factory = TransformerFactory.newInstance();
+        transformer = shared.templates.newTransformer();
+        staxFactory = XMLInputFactory.newInstance();
+    }
+
+    private StreamSource source() {
+        return new StreamSource(new ByteArrayInputStream(bytes));
+    }
+
+    private StreamResult result() {
+        out.reset();
+        return new StreamResult(out);
+    }
+
+    @Benchmark
+    public int newTransformer() throws Exception {
+        Transformer t = factory.newTransformer(new StreamSource(new StringReader(STYLESHEET)));
+        t.transform(source(), result());
+        return out.size();
+    }
+
+    @Benchmark
+    public int templates(Shared shared) throws Exception {
+        shared.templates.newTransformer().transform(source(), result());
+        return out.size();
+    }
+
+    @Benchmark
+    public int reusedTransformer() throws Exception {
+        transformer.reset();
+        transformer.transform(source(), result());
+        return out.size();
+    }
+
+    @Benchmark
+    public int stax(Shared shared) throws Exception {
+        XMLStreamReader reader = staxFactory.createXMLStreamReader(new ByteArrayInputStream(bytes));
+        shared.templates.newTransformer().transform(new StAXSource(reader), result());
+        reader.close();
+        return out.size();
+    }
+
+    @Threads(Threads.MAX)
+    public static class TMax extends XSLTTransform {
+    }
+}
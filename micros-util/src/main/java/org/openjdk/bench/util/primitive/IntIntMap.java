@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.util.primitive;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from {@code int} to {@code int} with linear
+ * probing, keeping keys and values in two flat arrays.
+ *
+ * Key 0 marks a free slot and is stored outside the table. Removal shifts
+ * the following entries back instead of leaving tombstones, so lookups never
+ * degrade after many removals. Not thread-safe.
+ */
+public final class IntIntMap {
+
+    private static final int FREE = 0;
+
+    /** Callback for {@link #forEach}. */
+    public interface Procedure {
+        void apply(int key, int value);
+    }
+
+    private final int noEntryValue;
+    private final float loadFactor;
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public IntIntMap() {
+        this(16, 0.75f, 0);
+    }
+
+    /**
+     * @param expectedSize number of entries the map holds without resizing
+     * @param loadFactor fraction of slots that may be used, in (0, 1)
+     * @param noEntryValue value returned for absent keys
+     */
+    public IntIntMap(int expectedSize, float loadFactor, int noEntryValue) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("loadFactor must be in (0, 1): " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.noEntryValue = noEntryValue;
+        allocate(Hashing.capacityFor(expectedSize, loadFactor));
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * loadFactor);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return number of slots in the table
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    public int get(int key) {
+        if (key == FREE) {
+            return hasZeroKey ? zeroValue : noEntryValue;
+        }
+        int[] keys = this.keys;
+        for (int i = Hashing.mix(key) & mask; ; i = (i + 1) & mask) {
+            int k = keys[i];
+            if (k == key) {
+                return values[i];
+            }
+            if (k == FREE) {
+                return noEntryValue;
+            }
+        }
+    }
+
+    public boolean containsKey(int key) {
+        if (key == FREE) {
+            return hasZeroKey;
+        }
+        for (int i = Hashing.mix(key) & mask; ; i = (i + 1) & mask) {
+            int k = keys[i];
+            if (k == key) {
+                return true;
+            }
+            if (k == FREE) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @return the previous value, or the no-entry value if the key was absent
+     */
+    public int put(int key, int value) {
+        if (key == FREE) {
+            int prev = hasZeroKey ? zeroValue : noEntryValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return prev;
+        }
+        int[] keys = this.keys;
+        int i = Hashing.mix(key) & mask;
+        for (int k; (k = keys[i]) != FREE; i = (i + 1) & mask) {
+            if (k == key) {
+                int prev = values[i];
+                values[i] = value;
+                return prev;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return noEntryValue;
+    }
+
+    /**
+     * @return the removed value, or the no-entry value if the key was absent
+     */
+    public int remove(int key) {
+        if (key == FREE) {
+            if (!hasZeroKey) {
+                return noEntryValue;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+        for (int i = Hashing.mix(key) & mask; ; i = (i + 1) & mask) {
+            int k = keys[i];
+            if (k == FREE) {
+                return noEntryValue;
+            }
+            if (k == key) {
+                int prev = values[i];
+                shiftBack(i);
+                size--;
+                return prev;
+            }
+        }
+    }
+
+    /**
+     * Closes the gap at {@code gap} by moving back entries of the same probe
+     * run that are allowed to live there.
+     */
+    private void shiftBack(int gap) {
+        int[] keys = this.keys;
+        for (int i = (gap + 1) & mask; ; i = (i + 1) & mask) {
+            int k = keys[i];
+            if (k == FREE) {
+                break;
+            }
+            int home = Hashing.mix(k) & mask;
+            // Move the entry unless its home slot lies cyclically in (gap, i].
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = k;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = FREE;
+    }
+
+    public void forEach(Procedure procedure) {
+        if (hasZeroKey) {
+            procedure.apply(FREE, zeroValue);
+        }
+        int[] keys = this.keys;
+        int[] values = this.values;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                procedure.apply(keys[i], values[i]);
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            int k = oldKeys[j];
+            if (k != FREE) {
+                int i = Hashing.mix(k) & mask;
+                while (keys[i] != FREE) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = k;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.util.primitive;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Open-addressing hash map from {@code long} to {@code long} whose table
+ * lives off-heap in a direct {@link ByteBuffer}, so a populated map adds
+ * only a few objects to the Java heap regardless of its size.
+ *
+ * Each slot is 16 bytes: the key followed by the value, in native byte
+ * order. Key 0 marks a free slot and is stored outside the table; removal
+ * shifts entries back instead of leaving tombstones. The native memory is
+ * released when the buffer is collected. Not thread-safe.
+ */
+public final class LongLongMap {
+
+    private static final long FREE = 0L;
+    private static final int SLOT_BYTES = 16;
+
+    /** Callback for {@link #forEach}. */
+    public interface Procedure {
+        void apply(long key, long value);
+    }
+
+    private final long noEntryValue;
+    private final float loadFactor;
+    private ByteBuffer table;
+    private int capacity;
+    private int mask;
+    private int size;
+    private int resizeAt;
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    public LongLongMap() {
+        this(16, 0.75f, 0L);
+    }
+
+    /**
+     * @param expectedSize number of entries the map holds without resizing
+     * @param loadFactor fraction of slots that may be used, in (0, 1)
+     * @param noEntryValue value returned for absent keys
+     */
+    public LongLongMap(int expectedSize, float loadFactor, long noEntryValue) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("loadFactor must be in (0, 1): " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.noEntryValue = noEntryValue;
+        int capacity = Hashing.capacityFor(expectedSize, loadFactor);
+        if (capacity > Integer.MAX_VALUE / SLOT_BYTES) {
+            throw new IllegalArgumentException("Too many entries: " + expectedSize);
+        }
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        // allocateDirect zeroes the memory, which marks every slot free.
+        table = ByteBuffer.allocateDirect(capacity * SLOT_BYTES).order(ByteOrder.nativeOrder());
+        this.capacity = capacity;
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * loadFactor);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return number of slots in the table
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return native memory held by the table, in bytes
+     */
+    public long offHeapBytes() {
+        return (long) capacity * SLOT_BYTES;
+    }
+
+    private long keyAt(int slot) {
+        return table.getLong(slot * SLOT_BYTES);
+    }
+
+    private long valueAt(int slot) {
+        return table.getLong(slot * SLOT_BYTES + 8);
+    }
+
+    private void set(int slot, long key, long value) {
+        table.putLong(slot * SLOT_BYTES, key);
+        table.putLong(slot * SLOT_BYTES + 8, value);
+    }
+
+    public long get(long key) {
+        if (key == FREE) {
+            return hasZeroKey ? zeroValue : noEntryValue;
+        }
+        for (int i = Hashing.mix(key) & mask; ; i = (i + 1) & mask) {
+            long k = keyAt(i);
+            if (k == key) {
+                return valueAt(i);
+            }
+            if (k == FREE) {
+                return noEntryValue;
+            }
+        }
+    }
+
+    public boolean containsKey(long key) {
+        if (key == FREE) {
+            return hasZeroKey;
+        }
+        for (int i = Hashing.mix(key) & mask; ; i = (i + 1) & mask) {
+            long k = keyAt(i);
+            if (k == key) {
+                return true;
+            }
+            if (k == FREE) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @return the previous value, or the no-entry value if the key was absent
+     */
+    public long put(long key, long value) {
+        if (key == FREE) {
+            long prev = hasZeroKey ? zeroValue : noEntryValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return prev;
+        }
+        int i = Hashing.mix(key) & mask;
+        for (long k; (k = keyAt(i)) != FREE; i = (i + 1) & mask) {
+            if (k == key) {
+                long prev = valueAt(i);
+                table.putLong(i * SLOT_BYTES + 8, value);
+                return prev;
+            }
+        }
+        set(i, key, value);
+        if (++size > resizeAt) {
+            rehash(capacity << 1);
+        }
+        return noEntryValue;
+    }
+
+    /**
+     * @return the removed value, or the no-entry value if the key was absent
+     */
+    public long remove(long key) {
+        if (key == FREE) {
+            if (!hasZeroKey) {
+                return noEntryValue;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+        for (int i = Hashing.mix(key) & mask; ; i = (i + 1) & mask) {
+            long k = keyAt(i);
+            if (k == FREE) {
+                return noEntryValue;
+            }
+            if (k == key) {
+                long prev = valueAt(i);
+                shiftBack(i);
+                size--;
+                return prev;
+            }
+        }
+    }
+
+    private void shiftBack(int gap) {
+        for (int i = (gap + 1) & mask; ; i = (i + 1) & mask) {
+            long k = keyAt(i);
+            if (k == FREE) {
+                break;
+            }
+            int home = Hashing.mix(k) & mask;
+            // Move the entry unless its home slot lies cyclically in (gap, i].
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                set(gap, k, valueAt(i));
+                gap = i;
+            }
+        }
+        set(gap, FREE, 0L);
+    }
+
+    public void forEach(Procedure procedure) {
+        if (hasZeroKey) {
+            procedure.apply(FREE, zeroValue);
+        }
+        for (int i = 0; i < capacity; i++) {
+            long k = keyAt(i);
+            if (k != FREE) {
+                procedure.apply(k, valueAt(i));
+            }
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < capacity; i++) {
+            set(i, FREE, 0L);
+        }
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    private void rehash(int newCapacity) {
+        if (newCapacity > Integer.MAX_VALUE / SLOT_BYTES) {
+            throw new IllegalStateException("Map too large: " + size);
+        }
+        ByteBuffer old = table;
+        int oldCapacity = capacity;
+        allocate(newCapacity);
+        for (int j = 0; j < oldCapacity; j++) {
+            long k = old.getLong(j * SLOT_BYTES);
+            if (k != FREE) {
+                int i = Hashing.mix(k) & mask;
+                while (keyAt(i) != FREE) {
+                    i = (i + 1) & mask;
+                }
+                set(i, k, old.getLong(j * SLOT_BYTES + 8));
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.util.primitive;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Open-addressing hash map from {@code long} to object references with
+ * linear probing. A {@code null} value marks a free slot, so {@code null}
+ * values are not permitted and any key, including 0, can be stored in the
+ * table. Not thread-safe.
+ *
+ * @param <V> the value type
+ */
+public final class LongObjectMap<V> {
+
+    /** Callback for {@link #forEach}. */
+    public interface Procedure<V> {
+        void apply(long key, V value);
+    }
+
+    private final float loadFactor;
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public LongObjectMap() {
+        this(16, 0.75f);
+    }
+
+    /**
+     * @param expectedSize number of entries the map holds without resizing
+     * @param loadFactor fraction of slots that may be used, in (0, 1)
+     */
+    public LongObjectMap(int expectedSize, float loadFactor) {
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("loadFactor must be in (0, 1): " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(Hashing.capacityFor(expectedSize, loadFactor));
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * loadFactor);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return number of slots in the table
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * @return the value for {@code key}, or {@code null} if absent
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        for (int i = Hashing.mix(key) & mask; ; i = (i + 1) & mask) {
+            Object v = values[i];
+            if (v == null) {
+                return null;
+            }
+            if (keys[i] == key) {
+                return (V) v;
+            }
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return the previous value, or {@code null} if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        Objects.requireNonNull(value, "value");
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        int i = Hashing.mix(key) & mask;
+        for (Object v; (v = values[i]) != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return (V) v;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * @return the removed value, or {@code null} if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        for (int i = Hashing.mix(key) & mask; ; i = (i + 1) & mask) {
+            Object v = values[i];
+            if (v == null) {
+                return null;
+            }
+            if (keys[i] == key) {
+                shiftBack(i);
+                size--;
+                return (V) v;
+            }
+        }
+    }
+
+    private void shiftBack(int gap) {
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        for (int i = (gap + 1) & mask; ; i = (i + 1) & mask) {
+            Object v = values[i];
+            if (v == null) {
+                break;
+            }
+            int home = Hashing.mix(keys[i]) & mask;
+            // Move the entry unless its home slot lies cyclically in (gap, i].
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = v;
+                gap = i;
+            }
+        }
+        values[gap] = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(Procedure<? super V> procedure) {
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        for (int i = 0; i < values.length; i++) {
+            Object v = values[i];
+            if (v != null) {
+                procedure.apply(keys[i], (V) v);
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldValues.length; j++) {
+            Object v = oldValues[j];
+            if (v != null) {
+                int i = Hashing.mix(oldKeys[j]) & mask;
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = v;
+            }
+        }
+    }
+}
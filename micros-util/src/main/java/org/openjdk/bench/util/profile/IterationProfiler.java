@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.util.profile;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.Defaults;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * Base class of the profilers that report figures JMH has no metric for,
+ * once per iteration, in the benchmark VM. Subclasses add their results in
+ * {@link #report}; {@link #add} names them like JMH's own secondary results.
+ *
+ * Figures that the benchmark itself can count per operation are better
+ * reported through {@code @AuxCounters}.
+ */
+public abstract class IterationProfiler implements InternalProfiler {
+
+    private final String description;
+
+    protected IterationProfiler(String description) {
+        this.description = description;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+    }
+
+    @Override
+    public final Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+                                                             IterationParams iterationParams,
+                                                             IterationResult result) {
+        List<Result> results = new ArrayList<>();
+        report(benchmarkParams, result, results);
+        return results;
+    }
+
+    /**
+     * Adds the results of the iteration that just ended.
+     *
+     * @param benchmarkParams the parameters of the running benchmark
+     * @param result the results JMH and the benchmark collected
+     * @param results where to add the results
+     */
+    protected abstract void report(BenchmarkParams benchmarkParams, IterationResult result, List<Result> results);
+
+    /**
+     * Adds a result named {@code name} under the secondary result prefix.
+     */
+    protected static void add(List<Result> results, String name, double value, String unit, AggregationPolicy policy) {
+        results.add(new ScalarResult(Defaults.PREFIX + name, value, unit, policy));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.util.profile;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+
+/**
+ * Reports figures that benchmarks measure themselves but cannot express as
+ * a score or a per-operation counter, such as the size of a data structure
+ * or of a serialized form:
+ *
+ * <pre>
+ * -prof org.openjdk.bench.util.profile.MetricsProfiler
+ * </pre>
+ *
+ * Benchmarks publish a figure with {@link #record}, in a setup or teardown
+ * method. After every iteration the profiler reports the latest value of
+ * every figure, averaged over the iterations. Figures that are expensive to
+ * measure should only be measured if {@link #isEnabled()}.
+ */
+public class MetricsProfiler extends IterationProfiler {
+
+    private static final class Metric {
+        final double value;
+        final String unit;
+
+        Metric(double value, String unit) {
+            this.value = value;
+            this.unit = unit;
+        }
+    }
+
+    private static final Map<String, Metric> METRICS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+
+    public MetricsProfiler() {
+        super("Figures measured by the benchmarks");
+        enabled = true;
+    }
+
+    /**
+     * @return whether the profiler runs in this VM
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the figure reported as {@code name}.
+     */
+    public static void record(String name, double value, String unit) {
+        METRICS.put(name, new Metric(value, unit));
+    }
+
+    @Override
+    protected void report(BenchmarkParams benchmarkParams, IterationResult result, List<Result> results) {
+        for (Map.Entry<String, Metric> e : METRICS.entrySet()) {
+            add(results, e.getKey(), e.getValue().value, e.getValue().unit, AggregationPolicy.AVG);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.util.results;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares benchmark results against baseline results of the same
+ * configuration and classifies each difference.
+ *
+ * A result is flagged as a regression only when the difference is both
+ * statistically significant at level {@code alpha} and at least
+ * {@code threshold} (a fraction of the baseline score) in the worse
+ * direction. Which direction is worse depends on the benchmark mode:
+ * higher is better for throughput, lower is better for all time modes.
+ */
+public final class RegressionDetector {
+
+    /** Minimum number of samples on each side to attempt a test. */
+    public static final int MIN_SAMPLES = 3;
+
+    private static final int BOOTSTRAP_RESAMPLES = 10_000;
+
+    public enum Test {
+        MANN_WHITNEY,
+        BOOTSTRAP,
+    }
+
+    public enum Verdict {
+        OK,
+        IMPROVED,
+        REGRESSED,
+        INCONCLUSIVE,
+        NO_BASELINE,
+    }
+
+    public static final class Comparison {
+        private final ResultRecord current;
+        private final ResultRecord baseline;
+        private final double degradation;
+        private final double significance;
+        private final Verdict verdict;
+
+        Comparison(ResultRecord current, ResultRecord baseline, double degradation,
+                   double significance, Verdict verdict) {
+            this.current = current;
+            this.baseline = baseline;
+            this.degradation = degradation;
+            this.significance = significance;
+            this.verdict = verdict;
+        }
+
+        public ResultRecord getCurrent() {
+            return current;
+        }
+
+        /**
+         * @return the baseline record, or null if there was none
+         */
+        public ResultRecord getBaseline() {
+            return baseline;
+        }
+
+        /**
+         * @return relative change against the baseline, positive when worse
+         */
+        public double getDegradation() {
+            return degradation;
+        }
+
+        /**
+         * @return the one-sided p-value in the observed direction, NaN if no test was done
+         */
+        public double getSignificance() {
+            return significance;
+        }
+
+        public Verdict getVerdict() {
+            return verdict;
+        }
+    }
+
+    private final Test test;
+    private final double alpha;
+    private final double threshold;
+
+    /**
+     * @param test the statistical test to apply
+     * @param alpha significance level, e.g. 0.01
+     * @param threshold minimal relative change that counts, e.g. 0.02 for 2%
+     */
+    public RegressionDetector(Test test, double alpha, double threshold) {
+        if (!(alpha > 0 && alpha < 0.5)) {
+            throw new IllegalArgumentException("alpha must be in (0, 0.5): " + alpha);
+        }
+        if (!(threshold >= 0)) {
+            throw new IllegalArgumentException("threshold must be non-negative: " + threshold);
+        }
+        this.test = test;
+        this.alpha = alpha;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Compares every current record against the newest matching record in
+     * the baseline pool. A baseline record matches if it has the same key
+     * and unit, comes from a different run and, unless {@code anyHost} is
+     * set, from a host with the same fingerprint.
+     *
+     * @param current the records of the run under test
+     * @param pool candidate baseline records
+     * @param baselineRunId if not null, only records of this run are candidates
+     * @param anyHost whether to ignore host fingerprints
+     * @return one comparison per current record
+     */
+    public List<Comparison> compareAll(List<ResultRecord> current, List<ResultRecord> pool,
+                                       String baselineRunId, boolean anyHost) {
+        List<Comparison> result = new ArrayList<>();
+        for (ResultRecord cur : current) {
+            ResultRecord best = null;
+            for (ResultRecord cand : pool) {
+                if (cand.getRunId().equals(cur.getRunId())
+                        || (baselineRunId != null && !baselineRunId.equals(cand.getRunId()))
+                        || (!anyHost && !cand.getHost().equals(cur.getHost()))
+                        || !cand.key().equals(cur.key())
+                        || !cand.getUnit().equals(cur.getUnit())) {
+                    continue;
+                }
+                if (best == null || !cand.getTimestamp().isBefore(best.getTimestamp())) {
+                    best = cand;
+                }
+            }
+            result.add(compare(cur, best));
+        }
+        return result;
+    }
+
+    /**
+     * @param current the record under test
+     * @param baseline the baseline, may be null
+     * @return the comparison
+     */
+    public Comparison compare(ResultRecord current, ResultRecord baseline) {
+        if (baseline == null) {
+            return new Comparison(current, null, Double.NaN, Double.NaN, Verdict.NO_BASELINE);
+        }
+        double[] cur = current.getSamples();
+        double[] base = baseline.getSamples();
+        double change = (current.getScore() - baseline.getScore()) / baseline.getScore();
+        double degradation = current.higherIsBetter() ? -change : change;
+        if (cur.length < MIN_SAMPLES || base.length < MIN_SAMPLES) {
+            return new Comparison(current, baseline, degradation, Double.NaN, Verdict.INCONCLUSIVE);
+        }
+
+        // Test in the observed direction: is the current score distribution
+        // shifted up (or down) against the baseline?
+        boolean worse = degradation > 0;
+        boolean curGreater = worse != current.higherIsBetter();
+        double[] hi = curGreater ? cur : base;
+        double[] lo = curGreater ? base : cur;
+        double p;
+        switch (test) {
+            case MANN_WHITNEY:
+                p = Statistics.mannWhitneyGreater(hi, lo);
+                break;
+            case BOOTSTRAP:
+                p = Statistics.bootstrapRatioGreater(hi, lo, BOOTSTRAP_RESAMPLES, current.key().hashCode());
+                break;
+            default:
+                throw new IllegalStateException("Unknown test: " + test);
+        }
+
+        Verdict verdict = Verdict.OK;
+        if (p < alpha && Math.abs(degradation) >= threshold) {
+            verdict = worse ? Verdict.REGRESSED : Verdict.IMPROVED;
+        }
+        return new Comparison(current, baseline, degradation, p, verdict);
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.util.results;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+/**
+ * Runs benchmarks, appends the results to a {@link ResultStore} and checks
+ * them against a baseline. Intended for unattended performance gates:
+ *
+ * <pre>
+ * java -cp micros-uberpackage-1.0-SNAPSHOT.jar org.openjdk.bench.util.results.RegressionGate \
+ *      --store=results.tsv [gate options] [JMH options]
+ * </pre>
+ *
+ * Options starting with {@code --} are handled by the gate, everything else
+ * is passed on to JMH. The result store keeps every run, but results are
+ * compared against a pinned baseline store ({@code --baseline}, by default
+ * the result store's name with {@code .baseline} appended), taking the
+ * newest result of the same configuration recorded there on the same host.
+ * The baseline only moves when asked to: a run that passed adds the
+ * configurations the baseline has no result for yet, and with
+ * {@code --promote} replaces the baseline with all of its results. A run
+ * that regressed never changes the baseline, and a slow drift below the
+ * threshold per run still adds up against the pinned results.
+ * {@code --baseline-run} compares against one run of the result store
+ * instead and leaves the baseline alone.
+ *
+ * The exit code is 0 if no regression was found, 1 if at least one result
+ * regressed significantly, and 2 on usage or I/O errors.
+ */
+public final class RegressionGate {
+
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_REGRESSION = 1;
+    public static final int EXIT_ERROR = 2;
+
+    private Path store = Paths.get("micros-results.tsv");
+    private Path baseline;
+    private String baselineRunId;
+    private String runId;
+    private RegressionDetector.Test test = RegressionDetector.Test.MANN_WHITNEY;
+    private double alpha = 0.01;
+    private double threshold = 0.02;
+    private boolean anyHost;
+    private boolean compareOnly;
+    private boolean promote;
+    private final List<String> jmhArgs = new ArrayList<>();
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out));
+    }
+
+    /**
+     * @param args gate and JMH options
+     * @param out where to print the comparison report
+     * @return the exit code
+     */
+    public static int run(String[] args, PrintStream out) {
+        RegressionGate gate = new RegressionGate();
+        try {
+            if (!gate.parse(args, out)) {
+                return EXIT_OK;
+            }
+            return gate.execute(out);
+        } catch (IllegalArgumentException | CommandLineOptionException e) {
+            out.println("Error: " + e.getMessage());
+            usage(out);
+            return EXIT_ERROR;
+        } catch (IOException | RunnerException e) {
+            out.println("Error: " + e.getMessage());
+            e.printStackTrace(out);
+            return EXIT_ERROR;
+        }
+    }
+
+    private boolean parse(String[] args, PrintStream out) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                jmhArgs.add(arg);
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            String name = eq < 0 ? arg : arg.substring(0, eq);
+            String value = eq < 0 ? null : arg.substring(eq + 1);
+            switch (name) {
+                case "--help":
+                    usage(out);
+                    return false;
+                case "--store":
+                    store = Paths.get(required(name, value));
+                    break;
+                case "--baseline":
+                    baseline = Paths.get(required(name, value));
+                    break;
+                case "--baseline-run":
+                    baselineRunId = required(name, value);
+                    break;
+                case "--run-id":
+                    runId = required(name, value);
+                    break;
+                case "--test":
+                    String t = required(name, value).toLowerCase(Locale.ROOT);
+                    if (t.equals("mwu") || t.equals("mann-whitney")) {
+                        test = RegressionDetector.Test.MANN_WHITNEY;
+                    } else if (t.equals("bootstrap")) {
+                        test = RegressionDetector.Test.BOOTSTRAP;
+                    } else {
+                        throw new IllegalArgumentException("Unknown test: " + value);
+                    }
+                    break;
+                case "--alpha":
+                    alpha = Double.parseDouble(required(name, value));
+                    break;
+                case "--threshold":
+                    threshold = Double.parseDouble(required(name, value));
+                    break;
+                case "--any-host":
+                    anyHost = true;
+                    break;
+                case "--compare-only":
+                    compareOnly = true;
+                    break;
+                case "--promote":
+                    promote = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        return true;
+    }
+
+    private static String required(String name, String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException(name + " requires a value");
+        }
+        return value;
+    }
+
+    private int execute(PrintStream out) throws IOException, RunnerException, CommandLineOptionException {
+        RegressionDetector detector = new RegressionDetector(test, alpha, threshold);
+        ResultStore results = new ResultStore(store);
+        List<ResultRecord> current;
+        if (compareOnly) {
+            Map<String, List<ResultRecord>> runs = ResultStore.byRun(results.readAll());
+            if (runId == null) {
+                for (String id : runs.keySet()) {
+                    runId = id;
+                }
+            }
+            current = runs.get(runId);
+            if (current == null) {
+                throw new IllegalArgumentException("No run " + runId + " in " + store);
+            }
+        } else {
+            current = runBenchmarks();
+            if (current == null) {
+                return EXIT_OK;
+            }
+            results.append(current);
+            out.println("Recorded " + current.size() + " results as run " + runId + " in " + store);
+        }
+
+        if (baselineRunId != null) {
+            if (promote) {
+                throw new IllegalArgumentException("--promote cannot be combined with --baseline-run");
+            }
+            return report(detector.compareAll(current, results.readAll(), baselineRunId, anyHost), out);
+        }
+        ResultStore baselines = new ResultStore(baseline != null ? baseline
+                : store.resolveSibling(store.getFileName() + ".baseline"));
+        List<ResultRecord> pool = baselines.readAll();
+        List<RegressionDetector.Comparison> comparisons = detector.compareAll(current, pool, null, anyHost);
+        int exit = report(comparisons, out);
+        updateBaseline(baselines, pool, comparisons, exit == EXIT_OK, out);
+        return exit;
+    }
+
+    /**
+     * Adds the results of a run that passed to the baseline: all of them
+     * with {@code --promote}, otherwise those of configurations that had no
+     * baseline yet.
+     */
+    private void updateBaseline(ResultStore baselines, List<ResultRecord> pool,
+                                List<RegressionDetector.Comparison> comparisons, boolean passed,
+                                PrintStream out) throws IOException {
+        if (!passed) {
+            out.println("Run " + runId + " regressed, baseline " + baselines.getFile() + " left unchanged.");
+            return;
+        }
+        for (ResultRecord r : pool) {
+            if (r.getRunId().equals(runId)) {
+                // Re-checked with --compare-only after it was added before.
+                return;
+            }
+        }
+        List<ResultRecord> added = new ArrayList<>();
+        for (RegressionDetector.Comparison c : comparisons) {
+            if (promote || c.getBaseline() == null) {
+                added.add(c.getCurrent());
+            }
+        }
+        if (!added.isEmpty()) {
+            baselines.append(added);
+            out.println((promote ? "Promoted run " + runId + " to the baseline in "
+                                 : "Added " + added.size() + " results without a baseline to ")
+                    + baselines.getFile());
+        }
+    }
+
+    private List<ResultRecord> runBenchmarks() throws RunnerException, CommandLineOptionException {
+        CommandLineOptions opts = new CommandLineOptions(jmhArgs.toArray(new String[0]));
+        if (opts.shouldHelp() || opts.shouldList() || opts.shouldListWithParams()
+                || opts.shouldListProfilers() || opts.shouldListResultFormats()) {
+            throw new IllegalArgumentException("Listing and help options are not supported by the gate, use org.openjdk.jmh.Main");
+        }
+        if (runId == null) {
+            runId = UUID.randomUUID().toString();
+        }
+        Collection<RunResult> runResults = new Runner(opts).run();
+        Instant now = Instant.now();
+        String host = ResultStore.hostFingerprint();
+        List<ResultRecord> records = new ArrayList<>();
+        for (RunResult r : runResults) {
+            records.add(ResultRecord.of(runId, now, host, r));
+        }
+        return records.isEmpty() ? null : records;
+    }
+
+    private int report(List<RegressionDetector.Comparison> comparisons, PrintStream out) {
+        out.println();
+        out.println(String.format("Comparison against baseline (%s, alpha = %s, threshold = %.1f%%):",
+                test == RegressionDetector.Test.MANN_WHITNEY ? "Mann-Whitney U" : "bootstrap",
+                alpha, threshold * 100));
+        int regressions = 0;
+        for (RegressionDetector.Comparison c : comparisons) {
+            ResultRecord cur = c.getCurrent();
+            ResultRecord base = c.getBaseline();
+            if (base == null) {
+                out.println(String.format("  %-12s %s: %.3f %s", c.getVerdict(), cur.key(), cur.getScore(), cur.getUnit()));
+                continue;
+            }
+            double degradation = c.getDegradation();
+            out.println(String.format("  %-12s %s: %.3f -> %.3f %s (%.2f%% %s, p = %.4f)",
+                    c.getVerdict(), cur.key(), base.getScore(), cur.getScore(), cur.getUnit(),
+                    Math.abs(degradation) * 100, degradation < 0 ? "better" : "worse", c.getSignificance()));
+            if (c.getVerdict() == RegressionDetector.Verdict.REGRESSED) {
+                regressions++;
+            }
+        }
+        out.println(regressions == 0 ? "No significant regressions."
+                                     : regressions + " significant regression(s).");
+        return regressions == 0 ? EXIT_OK : EXIT_REGRESSION;
+    }
+
+    private static void usage(PrintStream out) {
+        out.println("Usage: RegressionGate [gate options] [JMH options]");
+        out.println("  --store=FILE         append-only result store (default: micros-results.tsv)");
+        out.println("  --baseline=FILE      pinned baseline store (default: the result store + .baseline)");
+        out.println("  --promote            make this run the baseline if it did not regress");
+        out.println("  --baseline-run=ID    compare against this run of the result store instead");
+        out.println("  --run-id=ID          id for this run (default: random); with --compare-only, the run to check");
+        out.println("  --test=mwu|bootstrap statistical test (default: mwu)");
+        out.println("  --alpha=P            significance level (default: 0.01)");
+        out.println("  --threshold=F        minimal relative change to report, e.g. 0.02 (default: 0.02)");
+        out.println("  --any-host           compare against baselines from other hosts too");
+        out.println("  --compare-only       do not run benchmarks, check a run already in the store");
+    }
+}
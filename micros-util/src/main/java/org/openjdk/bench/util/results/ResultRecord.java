@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.util.results;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.BenchmarkResult;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+/**
+ * One benchmark result as kept in a {@link ResultStore}.
+ *
+ * Besides the aggregated score and error reported by JMH, a record keeps the
+ * primary score of every measurement iteration of every fork, which is what
+ * the {@link RegressionDetector} feeds into its statistical tests.
+ *
+ * Records are serialized as a single tab separated line, see {@link #toLine()}.
+ */
+public final class ResultRecord {
+
+    static final String FORMAT_VERSION = "v1";
+
+    private final String runId;
+    private final Instant timestamp;
+    private final String host;
+    private final String benchmark;
+    private final Mode mode;
+    private final SortedMap<String, String> params;
+    private final String unit;
+    private final double score;
+    private final double error;
+    private final double[] samples;
+    private final String jdkVersion;
+    private final String vmVersion;
+    private final List<String> jvmArgs;
+
+    public ResultRecord(String runId, Instant timestamp, String host,
+                        String benchmark, Mode mode, Map<String, String> params,
+                        String unit, double score, double error, double[] samples,
+                        String jdkVersion, String vmVersion, List<String> jvmArgs) {
+        this.runId = runId;
+        this.timestamp = timestamp;
+        this.host = host;
+        this.benchmark = benchmark;
+        this.mode = mode;
+        this.params = Collections.unmodifiableSortedMap(new TreeMap<>(params));
+        this.unit = unit;
+        this.score = score;
+        this.error = error;
+        this.samples = samples.clone();
+        this.jdkVersion = jdkVersion;
+        this.vmVersion = vmVersion;
+        this.jvmArgs = Collections.unmodifiableList(new ArrayList<>(jvmArgs));
+    }
+
+    /**
+     * Creates a record from a finished JMH run.
+     *
+     * @param runId identifier shared by all records of one invocation
+     * @param timestamp when the run was recorded
+     * @param host the host fingerprint, see {@link ResultStore#hostFingerprint()}
+     * @param result the JMH result
+     * @return the record
+     */
+    public static ResultRecord of(String runId, Instant timestamp, String host, RunResult result) {
+        BenchmarkParams bp = result.getParams();
+        Map<String, String> params = new TreeMap<>();
+        for (String key : bp.getParamsKeys()) {
+            params.put(key, bp.getParam(key));
+        }
+        List<Double> raw = new ArrayList<>();
+        for (BenchmarkResult br : result.getBenchmarkResults()) {
+            for (IterationResult ir : br.getIterationResults()) {
+                raw.add(ir.getPrimaryResult().getScore());
+            }
+        }
+        double[] samples = new double[raw.size()];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = raw.get(i);
+        }
+        Result primary = result.getPrimaryResult();
+        return new ResultRecord(runId, timestamp, host,
+                bp.getBenchmark(), bp.getMode(), params,
+                primary.getScoreUnit(), primary.getScore(), primary.getScoreError(), samples,
+                bp.getJdkVersion(), bp.getVmVersion(), new ArrayList<>(bp.getJvmArgs()));
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public String getBenchmark() {
+        return benchmark;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public SortedMap<String, String> getParams() {
+        return params;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public double getError() {
+        return error;
+    }
+
+    public double[] getSamples() {
+        return samples.clone();
+    }
+
+    public String getJdkVersion() {
+        return jdkVersion;
+    }
+
+    public String getVmVersion() {
+        return vmVersion;
+    }
+
+    public List<String> getJvmArgs() {
+        return jvmArgs;
+    }
+
+    /**
+     * @return true if a higher score is better for this record's mode
+     */
+    public boolean higherIsBetter() {
+        return mode == Mode.Throughput;
+    }
+
+    /**
+     * Identifies the measured configuration: benchmark, mode and parameters.
+     * Records with equal keys are comparable.
+     *
+     * @return the key
+     */
+    public String key() {
+        StringBuilder sb = new StringBuilder(benchmark).append(' ').append(mode.shortLabel());
+        if (!params.isEmpty()) {
+            sb.append(' ').append(params);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Serializes this record to one line, without the line terminator.
+     * Fields are tab separated; tabs, line breaks and the list separators
+     * within fields are escaped with a backslash.
+     *
+     * @return the line
+     */
+    public String toLine() {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append(FORMAT_VERSION);
+        field(sb, runId);
+        field(sb, timestamp.toString());
+        field(sb, host);
+        field(sb, benchmark);
+        field(sb, mode.shortLabel());
+        StringBuilder ps = new StringBuilder();
+        for (Map.Entry<String, String> e : params.entrySet()) {
+            if (ps.length() > 0) {
+                ps.append(',');
+            }
+            ps.append(escape(e.getKey())).append('=').append(escape(e.getValue()));
+        }
+        sb.append('\t').append(ps);
+        field(sb, unit);
+        field(sb, Double.toString(score));
+        field(sb, Double.toString(error));
+        StringBuilder ss = new StringBuilder();
+        for (double s : samples) {
+            if (ss.length() > 0) {
+                ss.append(',');
+            }
+            ss.append(s);
+        }
+        sb.append('\t').append(ss);
+        field(sb, jdkVersion);
+        field(sb, vmVersion);
+        StringBuilder as = new StringBuilder();
+        for (String a : jvmArgs) {
+            if (as.length() > 0) {
+                as.append(',');
+            }
+            as.append(escape(a));
+        }
+        sb.append('\t').append(as);
+        return sb.toString();
+    }
+
+    /**
+     * Parses a line produced by {@link #toLine()}.
+     *
+     * @param line the line
+     * @return the record
+     * @throws IllegalArgumentException if the line is malformed
+     */
+    public static ResultRecord parse(String line) {
+        List<String> f = split(line, '\t');
+        if (f.size() != 14 || !FORMAT_VERSION.equals(f.get(0))) {
+            throw new IllegalArgumentException("Malformed result record: " + line);
+        }
+        try {
+            Map<String, String> params = new TreeMap<>();
+            for (String kv : split(f.get(6), ',')) {
+                List<String> p = split(kv, '=');
+                if (p.size() != 2) {
+                    throw new IllegalArgumentException("Malformed parameter: " + kv);
+                }
+                params.put(unescape(p.get(0)), unescape(p.get(1)));
+            }
+            List<String> rawSamples = split(f.get(10), ',');
+            double[] samples = new double[rawSamples.size()];
+            for (int i = 0; i < samples.length; i++) {
+                samples[i] = Double.parseDouble(rawSamples.get(i));
+            }
+            List<String> jvmArgs = new ArrayList<>();
+            for (String a : split(f.get(13), ',')) {
+                jvmArgs.add(unescape(a));
+            }
+            return new ResultRecord(unescape(f.get(1)), Instant.parse(f.get(2)), unescape(f.get(3)),
+                    unescape(f.get(4)), Mode.deepValueOf(f.get(5)), params,
+                    unescape(f.get(7)), Double.parseDouble(f.get(8)), Double.parseDouble(f.get(9)), samples,
+                    unescape(f.get(11)), unescape(f.get(12)), jvmArgs);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed result record: " + line, e);
+        }
+    }
+
+    private static void field(StringBuilder sb, String value) {
+        sb.append('\t').append(escape(value));
+    }
+
+    static String escape(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '\\': sb.append("\\\\"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case ',':  sb.append("\\,"); break;
+                case '=':  sb.append("\\="); break;
+                default:   sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    static String unescape(String s) {
+        if (s.indexOf('\\') < 0) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < s.length()) {
+                char n = s.charAt(++i);
+                switch (n) {
+                    case 't': sb.append('\t'); break;
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    default:  sb.append(n);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Splits on unescaped occurrences of {@code sep}, keeping escapes intact.
+     * An empty string yields an empty list.
+     */
+    static List<String> split(String s, char sep) {
+        List<String> parts = new ArrayList<>();
+        if (s.isEmpty()) {
+            return parts;
+        }
+        int start = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == sep) {
+                parts.add(s.substring(start, i));
+                start = i + 1;
+            }
+        }
+        parts.add(s.substring(start));
+        return parts;
+    }
+
+    @Override
+    public String toString() {
+        return key() + " = " + score + " ± " + error + " " + unit + " [" + runId + "]";
+    }
+}
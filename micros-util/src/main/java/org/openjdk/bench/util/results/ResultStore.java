@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.util.results;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only file of {@link ResultRecord}s, one record per line.
+ *
+ * Lines starting with {@code #} are comments. Writers take an exclusive
+ * file lock for the duration of an append, so several runs may share one
+ * store.
+ */
+public final class ResultStore {
+
+    private final Path file;
+
+    public ResultStore(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Appends the given records to the end of the store, creating the file
+     * if necessary.
+     *
+     * @param records the records
+     * @throws IOException if the store cannot be written
+     */
+    public void append(Collection<ResultRecord> records) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            FileLock lock = ch.lock();
+            try {
+                Writer w = Channels.newWriter(ch, StandardCharsets.UTF_8.newEncoder(), -1);
+                for (ResultRecord r : records) {
+                    w.write(r.toLine());
+                    w.write('\n');
+                }
+                w.flush();
+                ch.force(false);
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    /**
+     * @return all records in file order, or an empty list if the store does not exist
+     * @throws IOException if the store cannot be read or contains malformed records
+     */
+    public List<ResultRecord> readAll() throws IOException {
+        List<ResultRecord> records = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return records;
+        }
+        try (BufferedReader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            int lineNo = 0;
+            for (String line; (line = r.readLine()) != null; ) {
+                lineNo++;
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                try {
+                    records.add(ResultRecord.parse(line));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(file + ":" + lineNo + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Groups records by run, in the order the runs were first appended.
+     *
+     * @param records the records
+     * @return run id to records of that run
+     */
+    public static Map<String, List<ResultRecord>> byRun(List<ResultRecord> records) {
+        Map<String, List<ResultRecord>> runs = new LinkedHashMap<>();
+        for (ResultRecord r : records) {
+            runs.computeIfAbsent(r.getRunId(), k -> new ArrayList<>()).add(r);
+        }
+        return runs;
+    }
+
+    /**
+     * Describes the machine results are recorded on. Results are only
+     * compared against baselines taken on a host with the same fingerprint.
+     * The {@code micros.results.host} system property overrides the
+     * detected value.
+     *
+     * @return the host fingerprint
+     */
+    public static String hostFingerprint() {
+        String override = System.getProperty("micros.results.host");
+        if (override != null && !override.isEmpty()) {
+            return override;
+        }
+        String name;
+        try {
+            name = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            name = System.getenv("HOSTNAME");
+            if (name == null) {
+                name = "unknown";
+            }
+        }
+        return name + "/" + System.getProperty("os.name") + "/" + System.getProperty("os.arch")
+                + "/" + Runtime.getRuntime().availableProcessors() + "cpu";
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.util.results;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Non-parametric two-sample tests used by the {@link RegressionDetector}.
+ * Benchmark scores are rarely normally distributed, so neither test assumes
+ * a distribution.
+ */
+public final class Statistics {
+
+    private Statistics() {
+    }
+
+    public static double mean(double[] xs) {
+        double sum = 0;
+        for (double x : xs) {
+            sum += x;
+        }
+        return sum / xs.length;
+    }
+
+    /**
+     * One-sided Mann-Whitney U test, using the normal approximation with
+     * tie and continuity correction.
+     *
+     * @param a first sample
+     * @param b second sample
+     * @return the p-value for the alternative that values in {@code a} tend
+     *         to be greater than values in {@code b}
+     */
+    public static double mannWhitneyGreater(double[] a, double[] b) {
+        int n1 = a.length;
+        int n2 = b.length;
+        int n = n1 + n2;
+        double[] all = new double[n];
+        System.arraycopy(a, 0, all, 0, n1);
+        System.arraycopy(b, 0, all, n1, n2);
+        double[] sorted = all.clone();
+        Arrays.sort(sorted);
+
+        // Average ranks for ties, and the tie correction term sum(t^3 - t).
+        double tieTerm = 0;
+        double rankSumA = 0;
+        for (double x : a) {
+            int lo = lowerBound(sorted, x);
+            int hi = upperBound(sorted, x);
+            rankSumA += (lo + 1 + hi) / 2.0;
+        }
+        for (int i = 0; i < n; ) {
+            int j = upperBound(sorted, sorted[i]);
+            double t = j - i;
+            tieTerm += t * t * t - t;
+            i = j;
+        }
+
+        double u = rankSumA - n1 * (n1 + 1) / 2.0;
+        double mu = n1 * (double) n2 / 2.0;
+        double var = n1 * (double) n2 / 12.0 * ((n + 1) - tieTerm / (n * (double) (n - 1)));
+        if (var <= 0) {
+            return 0.5;
+        }
+        double z = (u - mu - 0.5) / Math.sqrt(var);
+        return 1.0 - normalCdf(z);
+    }
+
+    /**
+     * One-sided bootstrap test on the ratio of means {@code mean(a) / mean(b)}.
+     *
+     * @param a first sample
+     * @param b second sample
+     * @param resamples number of bootstrap resamples
+     * @param seed random seed, so that the result is reproducible
+     * @return the fraction of resampled ratios that are at most 1, i.e. the
+     *         p-value for the alternative that {@code mean(a)} is greater
+     *         than {@code mean(b)}
+     */
+    public static double bootstrapRatioGreater(double[] a, double[] b, int resamples, long seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        int notGreater = 0;
+        for (int r = 0; r < resamples; r++) {
+            if (resampledMean(a, rnd) / resampledMean(b, rnd) <= 1.0) {
+                notGreater++;
+            }
+        }
+        return notGreater / (double) resamples;
+    }
+
+    private static double resampledMean(double[] xs, SplittableRandom rnd) {
+        double sum = 0;
+        for (int i = 0; i < xs.length; i++) {
+            sum += xs[rnd.nextInt(xs.length)];
+        }
+        return sum / xs.length;
+    }
+
+    private static int lowerBound(double[] sorted, double x) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < x) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int upperBound(double[] sorted, double x) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= x) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Standard normal CDF, via the complementary error function
+     * (Numerical Recipes {@code erfcc}, fractional error below 1.2e-7).
+     */
+    static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2.0);
+        double t = 1.0 / (1.0 + 0.5 * x);
+        double erfc = t * Math.exp(-x * x - 1.26551223 + t * (1.00002368 + t * (0.37409196
+                + t * (0.09678418 + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398
+                + t * (1.48851587 + t * (-0.82215223 + t * 0.17087277)))))))));
+        return z >= 0 ? 1.0 - erfc / 2.0 : erfc / 2.0;
+    }
+}
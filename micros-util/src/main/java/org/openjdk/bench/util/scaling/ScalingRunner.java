@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.util.scaling;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.openjdk.bench.util.results.ResultRecord;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the selected benchmarks once per thread count and reports how their
+ * throughput scales:
+ *
+ * <pre>
+ * java -cp micros-uberpackage-1.0-SNAPSHOT.jar org.openjdk.bench.util.scaling.ScalingRunner \
+ *      --threads=1,2,4,8 'javax.crypto.full.(AES|Mac|MessageDigest|Signature|RSA)Bench' [JMH options]
+ * </pre>
+ *
+ * Options starting with {@code --} are handled by the runner, everything
+ * else is passed on to JMH. The thread count overrides any {@code @Threads}
+ * annotation, so this is meant for benchmarks whose state is per thread,
+ * such as those built on {@code @State(Scope.Thread)}.
+ *
+ * For each benchmark configuration the report shows the score at each
+ * thread count, the throughput per thread, and the per-thread efficiency:
+ * throughput per thread relative to that at the lowest thread count. 100%
+ * means perfect scaling. For time-based modes the throughput is derived from
+ * the time per operation.
+ */
+public final class ScalingRunner {
+
+    private final List<Integer> threads = new ArrayList<>();
+    private final List<String> jmhArgs = new ArrayList<>();
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out));
+    }
+
+    /**
+     * @param args runner and JMH options
+     * @return 0 if all runs completed, 1 if a run failed or nothing matched, 2 on usage errors
+     */
+    public static int run(String[] args, PrintStream out) {
+        ScalingRunner runner = new ScalingRunner();
+        try {
+            if (!runner.parse(args, out)) {
+                return 0;
+            }
+            return runner.execute(out);
+        } catch (IllegalArgumentException | CommandLineOptionException e) {
+            out.println("Error: " + e.getMessage());
+            usage(out);
+            return 2;
+        } catch (RunnerException e) {
+            out.println("Error: " + e.getMessage());
+            e.printStackTrace(out);
+            return 1;
+        }
+    }
+
+    private boolean parse(String[] args, PrintStream out) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                jmhArgs.add(arg);
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            String name = eq < 0 ? arg : arg.substring(0, eq);
+            String value = eq < 0 ? null : arg.substring(eq + 1);
+            switch (name) {
+                case "--help":
+                    usage(out);
+                    return false;
+                case "--threads":
+                    if (value == null || value.isEmpty()) {
+                        throw new IllegalArgumentException(name + " requires a value");
+                    }
+                    TreeSet<Integer> sorted = new TreeSet<>();
+                    for (String t : value.split(",")) {
+                        int n = Integer.parseInt(t.trim());
+                        if (n < 1) {
+                            throw new IllegalArgumentException("Thread counts must be positive: " + value);
+                        }
+                        sorted.add(n);
+                    }
+                    threads.addAll(sorted);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (threads.isEmpty()) {
+            threads.addAll(defaultThreads(Runtime.getRuntime().availableProcessors()));
+        }
+        return true;
+    }
+
+    /**
+     * @return powers of two below {@code cpus}, followed by {@code cpus}
+     */
+    static List<Integer> defaultThreads(int cpus) {
+        List<Integer> counts = new ArrayList<>();
+        for (int t = 1; t < cpus; t <<= 1) {
+            counts.add(t);
+        }
+        counts.add(cpus);
+        return counts;
+    }
+
+    private int execute(PrintStream out) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions opts = new CommandLineOptions(jmhArgs.toArray(new String[0]));
+        if (opts.shouldHelp() || opts.shouldList() || opts.shouldListWithParams()
+                || opts.shouldListProfilers() || opts.shouldListResultFormats()) {
+            throw new IllegalArgumentException("Listing and help options are not supported by the scaling runner, use org.openjdk.jmh.Main");
+        }
+        if (opts.getThreads().hasValue()) {
+            throw new IllegalArgumentException("Use --threads instead of -t");
+        }
+
+        // Configuration key -> thread count -> result
+        Map<String, Map<Integer, ResultRecord>> results = new LinkedHashMap<>();
+        for (int t : threads) {
+            Options run = new OptionsBuilder().parent(opts).threads(t).build();
+            Collection<RunResult> runResults = new Runner(run).run();
+            Instant now = Instant.now();
+            for (RunResult r : runResults) {
+                ResultRecord record = ResultRecord.of("scaling", now, "", r);
+                results.computeIfAbsent(record.key(), k -> new LinkedHashMap<>()).put(t, record);
+            }
+        }
+        if (results.isEmpty()) {
+            out.println("No matching benchmarks.");
+            return 1;
+        }
+        report(results, out);
+        return 0;
+    }
+
+    private static void report(Map<String, Map<Integer, ResultRecord>> results, PrintStream out) {
+        out.println();
+        out.println("Scaling by thread count; efficiency is throughput per thread relative to the lowest thread count.");
+        for (Map.Entry<String, Map<Integer, ResultRecord>> e : results.entrySet()) {
+            out.println();
+            out.println(e.getKey());
+            out.println(String.format(Locale.ROOT, "  %8s %16s %16s %11s", "threads", "score", "per thread", "efficiency"));
+            double base = Double.NaN;
+            for (Map.Entry<Integer, ResultRecord> r : e.getValue().entrySet()) {
+                int t = r.getKey();
+                ResultRecord record = r.getValue();
+                double perThread = perThreadThroughput(record, t);
+                if (Double.isNaN(base)) {
+                    base = perThread;
+                }
+                out.println(String.format(Locale.ROOT, "  %8d %16.3f %16.3f %10.1f%%  %s",
+                        t, record.getScore(), perThread, 100 * perThread / base, record.getUnit()));
+            }
+        }
+    }
+
+    /**
+     * @return throughput per thread, in operations per unit of the score's
+     *         time unit
+     */
+    static double perThreadThroughput(ResultRecord record, int threads) {
+        if (record.getMode() == Mode.Throughput) {
+            // JMH reports the throughput of all threads together.
+            return record.getScore() / threads;
+        }
+        // Time per operation, as seen by each thread.
+        return 1 / record.getScore();
+    }
+
+    private static void usage(PrintStream out) {
+        out.println("Usage: ScalingRunner [runner options] [JMH options]");
+        out.println("  --threads=LIST       comma separated thread counts (default: 1, 2, 4, ... up to the number of CPUs)");
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.util.shard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.ProfilerConfig;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.openjdk.jmh.runner.options.VerboseMode;
+import org.openjdk.jmh.runner.options.WarmupMode;
+import org.openjdk.jmh.util.Optional;
+
+/**
+ * The options of one shard: the user's JMH options, restricted to an exact
+ * list of benchmarks. Output and result files are left to the
+ * {@link ShardedRunner}, which merges the results of all shards.
+ *
+ * {@code OptionsBuilder.parent} cannot be used here, as it would add the
+ * shard's includes to the user's includes instead of replacing them.
+ */
+final class ShardOptions implements Options {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Options delegate;
+    private final List<String> includes;
+
+    ShardOptions(Options delegate, Collection<String> benchmarks) {
+        this.delegate = delegate;
+        this.includes = new ArrayList<>();
+        for (String b : benchmarks) {
+            includes.add("^" + Pattern.quote(b) + "$");
+        }
+    }
+
+    @Override
+    public List<String> getIncludes() {
+        return includes;
+    }
+
+    @Override
+    public List<String> getExcludes() {
+        return delegate.getExcludes();
+    }
+
+    @Override
+    public Optional<String> getOutput() {
+        return Optional.none();
+    }
+
+    @Override
+    public Optional<ResultFormatType> getResultFormat() {
+        return Optional.none();
+    }
+
+    @Override
+    public Optional<String> getResult() {
+        return Optional.none();
+    }
+
+    @Override
+    public Optional<Boolean> shouldDoGC() {
+        return delegate.shouldDoGC();
+    }
+
+    @Override
+    public List<ProfilerConfig> getProfilers() {
+        return delegate.getProfilers();
+    }
+
+    @Override
+    public Optional<VerboseMode> verbosity() {
+        return delegate.verbosity();
+    }
+
+    @Override
+    public Optional<Boolean> shouldFailOnError() {
+        return delegate.shouldFailOnError();
+    }
+
+    @Override
+    public Optional<Integer> getThreads() {
+        return delegate.getThreads();
+    }
+
+    @Override
+    public Optional<int[]> getThreadGroups() {
+        return delegate.getThreadGroups();
+    }
+
+    @Override
+    public Optional<Boolean> shouldSyncIterations() {
+        return delegate.shouldSyncIterations();
+    }
+
+    @Override
+    public Optional<Integer> getWarmupIterations() {
+        return delegate.getWarmupIterations();
+    }
+
+    @Override
+    public Optional<TimeValue> getWarmupTime() {
+        return delegate.getWarmupTime();
+    }
+
+    @Override
+    public Optional<Integer> getWarmupBatchSize() {
+        return delegate.getWarmupBatchSize();
+    }
+
+    @Override
+    public Optional<WarmupMode> getWarmupMode() {
+        return delegate.getWarmupMode();
+    }
+
+    @Override
+    public List<String> getWarmupIncludes() {
+        return delegate.getWarmupIncludes();
+    }
+
+    @Override
+    public Optional<Integer> getMeasurementIterations() {
+        return delegate.getMeasurementIterations();
+    }
+
+    @Override
+    public Optional<TimeValue> getMeasurementTime() {
+        return delegate.getMeasurementTime();
+    }
+
+    @Override
+    public Optional<Integer> getMeasurementBatchSize() {
+        return delegate.getMeasurementBatchSize();
+    }
+
+    @Override
+    public Collection<Mode> getBenchModes() {
+        return delegate.getBenchModes();
+    }
+
+    @Override
+    public Optional<TimeUnit> getTimeUnit() {
+        return delegate.getTimeUnit();
+    }
+
+    @Override
+    public Optional<Integer> getOperationsPerInvocation() {
+        return delegate.getOperationsPerInvocation();
+    }
+
+    @Override
+    public Optional<Integer> getForkCount() {
+        return delegate.getForkCount();
+    }
+
+    @Override
+    public Optional<Integer> getWarmupForkCount() {
+        return delegate.getWarmupForkCount();
+    }
+
+    @Override
+    public Optional<String> getJvm() {
+        return delegate.getJvm();
+    }
+
+    @Override
+    public Optional<Collection<String>> getJvmArgs() {
+        return delegate.getJvmArgs();
+    }
+
+    @Override
+    public Optional<Collection<String>> getJvmArgsAppend() {
+        return delegate.getJvmArgsAppend();
+    }
+
+    @Override
+    public Optional<Collection<String>> getJvmArgsPrepend() {
+        return delegate.getJvmArgsPrepend();
+    }
+
+    @Override
+    public Optional<Collection<String>> getParameter(String name) {
+        return delegate.getParameter(name);
+    }
+
+    @Override
+    public Optional<TimeValue> getTimeout() {
+        return delegate.getTimeout();
+    }
+}
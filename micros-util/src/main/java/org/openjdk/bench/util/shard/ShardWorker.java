@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.util.shard;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+/**
+ * Entry point of the JVM running one shard for the {@link ShardedRunner}.
+ * Reads the serialized shard {@link Options}, runs the benchmarks and
+ * serializes the results for the parent to merge.
+ */
+final class ShardWorker {
+
+    private ShardWorker() {
+    }
+
+    /**
+     * @param args the options file and the results file
+     */
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        if (args.length != 2) {
+            System.err.println("Usage: ShardWorker <options file> <results file>");
+            System.exit(2);
+        }
+        Options opts;
+        try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(Paths.get(args[0])))) {
+            opts = (Options) in.readObject();
+        }
+        Collection<RunResult> results;
+        try {
+            results = new Runner(opts).run();
+        } catch (RunnerException e) {
+            e.printStackTrace();
+            System.exit(1);
+            return;
+        }
+        Path out = Paths.get(args[1]);
+        try (ObjectOutputStream oos = new ObjectOutputStream(Files.newOutputStream(out))) {
+            oos.writeObject(new ArrayList<>(results));
+        }
+    }
+}
@@ -0,0 +1,425 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package org.openjdk.bench.util.shard;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.openjdk.bench.util.results.ResultRecord;
+import org.openjdk.bench.util.results.ResultStore;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.BenchmarkList;
+import org.openjdk.jmh.runner.BenchmarkListEntry;
+import org.openjdk.jmh.runner.format.OutputFormatFactory;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+/**
+ * Runs the selected benchmarks in parallel shards, each pinned to its own
+ * set of CPUs, and merges the results into one report:
+ *
+ * <pre>
+ * java -cp micros-uberpackage-1.0-SNAPSHOT.jar org.openjdk.bench.util.shard.ShardedRunner \
+ *      --cpus-per-shard=2 [runner options] [JMH options]
+ * </pre>
+ *
+ * Options starting with {@code --} are handled by the runner, everything
+ * else is passed on to JMH. Each shard is a separate JVM started under
+ * {@code taskset}; JMH forks inherit the affinity of that JVM, so all forks
+ * of a shard stay on the shard's CPUs.
+ *
+ * Benchmarks are distributed over the shards by their number of parameter
+ * combinations, largest first. Benchmarks that need more threads than a
+ * shard has CPUs (including {@code @Threads(Threads.MAX)}) are not sharded;
+ * they run after all shards have finished, one at a time, on all CPUs.
+ *
+ * A JVM that sees only one or two CPUs may pick different ergonomics (e.g.
+ * the Serial collector and fewer compiler threads) than one that sees the
+ * whole machine. Pass the collector and thread counts explicitly with
+ * {@code -jvmArgsAppend} when comparing against unsharded runs.
+ */
+public final class ShardedRunner {
+
+    private List<Integer> cpus;
+    private int cpusPerShard = 2;
+    private int shardCount;
+    private boolean pin = System.getProperty("os.name", "").toLowerCase(Locale.ROOT).contains("linux");
+    private Path workDir;
+    private Path store;
+    private Path result;
+    private ResultFormatType resultFormat = ResultFormatType.JSON;
+    private final List<String> jmhArgs = new ArrayList<>();
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out));
+    }
+
+    /**
+     * @param args runner and JMH options
+     * @param out where to print progress and the merged report
+     * @return 0 if all shards completed, 1 if any shard failed, 2 on usage or I/O errors
+     */
+    public static int run(String[] args, PrintStream out) {
+        ShardedRunner runner = new ShardedRunner();
+        try {
+            if (!runner.parse(args, out)) {
+                return 0;
+            }
+            return runner.execute(out);
+        } catch (IllegalArgumentException | CommandLineOptionException e) {
+            out.println("Error: " + e.getMessage());
+            usage(out);
+            return 2;
+        } catch (IOException | ClassNotFoundException e) {
+            out.println("Error: " + e.getMessage());
+            e.printStackTrace(out);
+            return 2;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            out.println("Interrupted");
+            return 2;
+        }
+    }
+
+    private boolean parse(String[] args, PrintStream out) throws IOException {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                jmhArgs.add(arg);
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            String name = eq < 0 ? arg : arg.substring(0, eq);
+            String value = eq < 0 ? null : arg.substring(eq + 1);
+            switch (name) {
+                case "--help":
+                    usage(out);
+                    return false;
+                case "--cpus":
+                    cpus = parseCpuList(required(name, value));
+                    break;
+                case "--cpus-per-shard":
+                    cpusPerShard = Integer.parseInt(required(name, value));
+                    break;
+                case "--shards":
+                    shardCount = Integer.parseInt(required(name, value));
+                    break;
+                case "--no-pin":
+                    pin = false;
+                    break;
+                case "--work-dir":
+                    workDir = Paths.get(required(name, value));
+                    break;
+                case "--store":
+                    store = Paths.get(required(name, value));
+                    break;
+                case "--result":
+                    result = Paths.get(required(name, value));
+                    break;
+                case "--result-format":
+                    resultFormat = ResultFormatType.valueOf(required(name, value).toUpperCase(Locale.ROOT));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (cpus == null) {
+            cpus = availableCpus();
+        }
+        if (cpusPerShard < 1 || cpusPerShard > cpus.size()) {
+            throw new IllegalArgumentException("--cpus-per-shard must be between 1 and " + cpus.size());
+        }
+        int maxShards = cpus.size() / cpusPerShard;
+        if (shardCount == 0) {
+            shardCount = maxShards;
+        } else if (shardCount < 1 || shardCount > maxShards) {
+            throw new IllegalArgumentException("--shards must be between 1 and " + maxShards
+                    + " for " + cpus.size() + " CPUs and " + cpusPerShard + " CPUs per shard");
+        }
+        return true;
+    }
+
+    private static String required(String name, String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException(name + " requires a value");
+        }
+        return value;
+    }
+
+    private int execute(PrintStream out)
+            throws IOException, CommandLineOptionException, ClassNotFoundException, InterruptedException {
+        CommandLineOptions opts = new CommandLineOptions(jmhArgs.toArray(new String[0]));
+        if (opts.shouldHelp() || opts.shouldList() || opts.shouldListWithParams()
+                || opts.shouldListProfilers() || opts.shouldListResultFormats()) {
+            throw new IllegalArgumentException("Listing and help options are not supported by the sharded runner, use org.openjdk.jmh.Main");
+        }
+        if (opts.getOutput().hasValue() || opts.getResult().hasValue() || opts.getResultFormat().hasValue()) {
+            throw new IllegalArgumentException("Use --result and --result-format instead of -o, -rf and -rff");
+        }
+
+        // Group all modes of a benchmark method into one unit of work.
+        Map<String, Integer> weights = new TreeMap<>();
+        List<String> wide = new ArrayList<>();
+        for (BenchmarkListEntry e : BenchmarkList.defaultList().find(
+                OutputFormatFactory.createFormatInstance(out, VerboseMode.SILENT),
+                opts.getIncludes(), opts.getExcludes())) {
+            if (threadsOf(e, opts) > cpusPerShard) {
+                if (!wide.contains(e.getUsername())) {
+                    wide.add(e.getUsername());
+                }
+            } else {
+                weights.merge(e.getUsername(), combinationsOf(e, opts), Integer::sum);
+            }
+        }
+        wide.forEach(weights::remove);
+        if (weights.isEmpty() && wide.isEmpty()) {
+            out.println("No matching benchmarks.");
+            return 1;
+        }
+
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < Math.min(shardCount, Math.max(1, weights.size())); i++) {
+            shards.add(new Shard(i, cpus.subList(i * cpusPerShard, (i + 1) * cpusPerShard)));
+        }
+        // Longest processing time first: the heaviest benchmark goes to the lightest shard.
+        List<Map.Entry<String, Integer>> byWeight = new ArrayList<>(weights.entrySet());
+        byWeight.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        for (Map.Entry<String, Integer> e : byWeight) {
+            Shard lightest = shards.stream().min(Comparator.comparingLong(s -> s.weight)).get();
+            lightest.benchmarks.add(e.getKey());
+            lightest.weight += e.getValue();
+        }
+        shards.removeIf(s -> s.benchmarks.isEmpty());
+
+        if (workDir == null) {
+            workDir = Paths.get("shards-" + System.currentTimeMillis());
+        }
+        Files.createDirectories(workDir);
+
+        out.println("Running " + weights.size() + " benchmarks in " + shards.size() + " shards of "
+                + cpusPerShard + " CPUs" + (pin ? "" : " (not pinned)") + ", " + wide.size()
+                + " benchmarks afterwards on all CPUs, logs in " + workDir.toAbsolutePath());
+        for (Shard s : shards) {
+            s.start(opts);
+            out.println("  shard " + s.id + " on CPUs " + s.cpuList() + ": " + s.benchmarks.size() + " benchmarks");
+        }
+        boolean failed = false;
+        List<RunResult> merged = new ArrayList<>();
+        for (Shard s : shards) {
+            failed |= !s.finish(merged, out);
+        }
+        if (!wide.isEmpty()) {
+            Shard all = new Shard(shards.size(), cpus);
+            all.benchmarks.addAll(wide);
+            all.start(opts);
+            out.println("  shard " + all.id + " on CPUs " + all.cpuList() + ": " + wide.size() + " benchmarks");
+            failed |= !all.finish(merged, out);
+        }
+
+        merged.sort(RunResult.DEFAULT_SORT_COMPARATOR);
+        out.println();
+        ResultFormatFactory.getInstance(ResultFormatType.TEXT, out).writeOut(merged);
+        if (result != null) {
+            ResultFormatFactory.getInstance(resultFormat, result.toString()).writeOut(merged);
+            out.println("Merged results written to " + result);
+        }
+        if (store != null && !merged.isEmpty()) {
+            String runId = UUID.randomUUID().toString();
+            Instant now = Instant.now();
+            String host = ResultStore.hostFingerprint();
+            List<ResultRecord> records = new ArrayList<>();
+            for (RunResult r : merged) {
+                records.add(ResultRecord.of(runId, now, host, r));
+            }
+            new ResultStore(store).append(records);
+            out.println("Recorded " + records.size() + " results as run " + runId + " in " + store);
+        }
+        return failed ? 1 : 0;
+    }
+
+    private static int threadsOf(BenchmarkListEntry e, CommandLineOptions opts) {
+        int threads = opts.getThreads().orElse(e.getThreads().orElse(1));
+        if (threads == Threads.MAX) {
+            return Integer.MAX_VALUE;
+        }
+        int[] groups = opts.getThreadGroups().orElse(e.getThreadGroups());
+        int groupThreads = 0;
+        for (int g : groups) {
+            groupThreads += g;
+        }
+        return Math.max(threads, groupThreads);
+    }
+
+    private static int combinationsOf(BenchmarkListEntry e, CommandLineOptions opts) {
+        int n = 1;
+        if (e.getParams().hasValue()) {
+            for (Map.Entry<String, String[]> p : e.getParams().get().entrySet()) {
+                n *= opts.getParameter(p.getKey()).hasValue()
+                        ? opts.getParameter(p.getKey()).get().size()
+                        : p.getValue().length;
+            }
+        }
+        return n;
+    }
+
+    private final class Shard {
+        final int id;
+        final List<Integer> cpus;
+        final List<String> benchmarks = new ArrayList<>();
+        long weight;
+        Process process;
+
+        Shard(int id, List<Integer> cpus) {
+            this.id = id;
+            this.cpus = cpus;
+        }
+
+        String cpuList() {
+            StringBuilder sb = new StringBuilder();
+            for (int c : cpus) {
+                if (sb.length() > 0) {
+                    sb.append(',');
+                }
+                sb.append(c);
+            }
+            return sb.toString();
+        }
+
+        Path file(String suffix) {
+            return workDir.resolve("shard-" + id + suffix);
+        }
+
+        void start(CommandLineOptions opts) throws IOException {
+            try (ObjectOutputStream oos = new ObjectOutputStream(Files.newOutputStream(file(".options")))) {
+                oos.writeObject(new ShardOptions(opts, benchmarks));
+            }
+            Files.write(file(".benchmarks"), benchmarks, StandardCharsets.UTF_8);
+            Files.deleteIfExists(file(".results"));
+
+            List<String> cmd = new ArrayList<>();
+            if (pin) {
+                cmd.add("taskset");
+                cmd.add("-c");
+                cmd.add(cpuList());
+            }
+            cmd.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            // JMH refuses to run next to another JMH instance; running side by side is the point here.
+            cmd.add("-Djmh.ignoreLock=true");
+            cmd.add("-cp");
+            cmd.add(System.getProperty("java.class.path"));
+            cmd.add(ShardWorker.class.getName());
+            cmd.add(file(".options").toString());
+            cmd.add(file(".results").toString());
+            process = new ProcessBuilder(cmd)
+                    .redirectErrorStream(true)
+                    .redirectOutput(file(".log").toFile())
+                    .start();
+        }
+
+        @SuppressWarnings("unchecked")
+        boolean finish(List<RunResult> merged, PrintStream out) throws IOException, ClassNotFoundException, InterruptedException {
+            int exit = process.waitFor();
+            File results = file(".results").toFile();
+            if (results.exists()) {
+                try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(results.toPath()))) {
+                    merged.addAll((Collection<RunResult>) in.readObject());
+                }
+            }
+            if (exit != 0 || !results.exists()) {
+                out.println("  shard " + id + " failed with exit code " + exit + ", see " + file(".log"));
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Parses a CPU list such as {@code 0-15,32-47}.
+     */
+    static List<Integer> parseCpuList(String list) {
+        List<Integer> result = new ArrayList<>();
+        for (String part : list.trim().split(",")) {
+            int dash = part.indexOf('-');
+            int from = Integer.parseInt(dash < 0 ? part.trim() : part.substring(0, dash).trim());
+            int to = dash < 0 ? from : Integer.parseInt(part.substring(dash + 1).trim());
+            if (to < from) {
+                throw new IllegalArgumentException("Bad CPU range: " + part);
+            }
+            for (int c = from; c <= to; c++) {
+                result.add(c);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the CPUs this process may run on, as reported by Linux, or
+     *         {@code 0..availableProcessors-1} elsewhere
+     */
+    private static List<Integer> availableCpus() throws IOException {
+        Path status = Paths.get("/proc/self/status");
+        if (Files.isReadable(status)) {
+            for (String line : Files.readAllLines(status, StandardCharsets.UTF_8)) {
+                if (line.startsWith("Cpus_allowed_list:")) {
+                    return parseCpuList(line.substring(line.indexOf(':') + 1));
+                }
+            }
+        }
+        List<Integer> result = new ArrayList<>();
+        for (int c = 0; c < Runtime.getRuntime().availableProcessors(); c++) {
+            result.add(c);
+        }
+        return result;
+    }
+
+    private static void usage(PrintStream out) {
+        out.println("Usage: ShardedRunner [runner options] [JMH options]");
+        out.println("  --cpus=LIST          CPUs to use, e.g. 0-31,64-95 (default: all CPUs this process may use)");
+        out.println("  --cpus-per-shard=N   CPUs per shard (default: 2)");
+        out.println("  --shards=N           number of shards (default: CPUs / CPUs per shard)");
+        out.println("  --no-pin             do not pin shards with taskset");
+        out.println("  --work-dir=DIR       where to keep shard logs and results (default: shards-<time>)");
+        out.println("  --result=FILE        write the merged results to FILE");
+        out.println("  --result-format=T    format of the merged results: text, csv, scsv, json, latex (default: json)");
+        out.println("  --store=FILE         append the merged results to a result store, see RegressionGate");
+    }
+}